@@ -0,0 +1,128 @@
+package com.framework.benchmarks;
+
+import com.framework.Scanners.PathMatch;
+import com.framework.Scanners.RouteTrie;
+import com.framework.Scanners.UrlDetails;
+import com.framework.binding.BindingPlan;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Résolution des arguments d'un handler (BindingPlan.bind) selon la forme de ses paramètres :
+ * variable de chemin, paramètres de requête, mélange avec HttpServletRequest, record construit
+ * depuis un formulaire ou depuis un corps JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindingBenchmark {
+
+    private final BenchmarkServletContext context = new BenchmarkServletContext();
+    private final BenchmarkResponse response = new BenchmarkResponse();
+
+    private Case pathVariable;
+    private Case requestParams;
+    private Case mixed;
+    private Case formObject;
+    private Case jsonObject;
+
+    @Setup
+    public void setup() throws Exception {
+        pathVariable = new Case("/accounts/{id}", method("pathVariable", int.class),
+                new BenchmarkRequest("GET", "/accounts/42", context));
+        requestParams = new Case("/search", method("requestParams", String.class, int.class, boolean.class),
+                new BenchmarkRequest("GET", "/search", context)
+                        .parameter("q", "servlet")
+                        .parameter("page", "3")
+                        .parameter("active", "true"));
+        mixed = new Case("/orders/{id}", method("mixed", long.class, String.class, HttpServletRequest.class),
+                new BenchmarkRequest("GET", "/orders/9001", context).parameter("name", "alice"));
+        formObject = new Case("/addresses", method("object", BindingController.Address.class),
+                new BenchmarkRequest("POST", "/addresses", context)
+                        .parameter("street", "12 rue des Lilas")
+                        .parameter("city", "Antananarivo")
+                        .parameter("zip", "101"));
+        jsonObject = new Case("/addresses", method("object", BindingController.Address.class),
+                new BenchmarkRequest("POST", "/addresses", context)
+                        .body("application/json", "{\"street\":\"12 rue des Lilas\",\"city\":\"Antananarivo\",\"zip\":101}"));
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return BindingController.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    @Benchmark
+    public Object[] pathVariable() {
+        return pathVariable.bind(response);
+    }
+
+    @Benchmark
+    public Object[] requestParams() {
+        return requestParams.bind(response);
+    }
+
+    @Benchmark
+    public Object[] mixed() {
+        return mixed.bind(response);
+    }
+
+    @Benchmark
+    public Object[] formObject() {
+        return formObject.bind(response);
+    }
+
+    @Benchmark
+    public Object[] jsonObject() {
+        return jsonObject.bind(response);
+    }
+
+    /**
+     * Plan compilé d'un handler, avec sa requête et les variables de chemin déjà capturées.
+     */
+    private static final class Case {
+        private final BindingPlan plan;
+        private final BenchmarkRequest request;
+        private final PathMatch pathMatch;
+
+        Case(String template, Method handler, BenchmarkRequest request) {
+            UrlDetails route = new UrlDetails(BindingController.class, template);
+            route.addMethod(handler);
+            this.plan = BindingPlan.compile(route, handler);
+            this.request = request;
+
+            RouteTrie<UrlDetails> trie = new RouteTrie<>();
+            trie.insert(template, route);
+            this.pathMatch = new PathMatch(route.getParameterNames().size());
+            pathMatch.reset(request.getRequestURI());
+            if (route.isDynamic() && trie.match(request.getRequestURI(), pathMatch) == null) {
+                throw new IllegalStateException("Chemin hors du modèle " + template);
+            }
+            if (bind(new BenchmarkResponse()) == null) {
+                throw new IllegalStateException("Requête incompatible avec " + handler);
+            }
+        }
+
+        Object[] bind(BenchmarkResponse response) {
+            // Le corps JSON est relu et l'objet lié n'est pas repris des attributs
+            request.reset();
+            return plan.bind(request, response, pathMatch);
+        }
+    }
+}
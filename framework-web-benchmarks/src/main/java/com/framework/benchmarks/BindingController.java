@@ -0,0 +1,41 @@
+package com.framework.benchmarks;
+
+import com.framework.annotation.Controller;
+import com.framework.annotation.HandlePath;
+import com.framework.annotation.RequestParam;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Contrôleur dont les handlers couvrent les formes de paramètres mesurées par
+ * {@link BindingBenchmark}.
+ */
+@Controller
+public class BindingController {
+
+    /**
+     * Adresse construite depuis les champs du formulaire ou le corps JSON.
+     */
+    public record Address(String street, String city, int zip) {
+    }
+
+    @HandlePath("/accounts/{id}")
+    public String pathVariable(int id) {
+        return "account " + id;
+    }
+
+    @HandlePath("/search")
+    public String requestParams(@RequestParam("q") String query, int page, boolean active) {
+        return query + ' ' + page + ' ' + active;
+    }
+
+    @HandlePath("/orders/{id}")
+    public String mixed(long id, String name, HttpServletRequest request) {
+        return name + '#' + id;
+    }
+
+    @HandlePath("/addresses")
+    public String object(Address address) {
+        return address.city();
+    }
+}
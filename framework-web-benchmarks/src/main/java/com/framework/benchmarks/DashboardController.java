@@ -0,0 +1,33 @@
+package com.framework.benchmarks;
+
+import com.framework.annotation.Controller;
+import com.framework.annotation.HandlePath;
+import com.framework.util.ModelView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contrôleur retournant des ModelView préparés, pour mesurer le seul transfert des données
+ * vers les attributs de la requête.
+ */
+@Controller
+public class DashboardController {
+
+    private static final Map<Integer, ModelView> VIEWS = new HashMap<>();
+
+    static {
+        for (int size : new int[]{1, 10, 50}) {
+            ModelView view = new ModelView("/WEB-INF/views/dashboard.jsp");
+            for (int i = 0; i < size; i++) {
+                view.addObject("attribute" + i, "value" + i);
+            }
+            VIEWS.put(size, view);
+        }
+    }
+
+    @HandlePath("/dashboard/{size}")
+    public ModelView dashboard(int size) {
+        return VIEWS.get(size);
+    }
+}
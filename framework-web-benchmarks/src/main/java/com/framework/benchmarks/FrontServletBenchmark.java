@@ -0,0 +1,90 @@
+package com.framework.benchmarks;
+
+import com.framework.Servlets.FrontServlet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traitement complet d'une requête par le FrontServlet : recherche de la route, binding,
+ * invocation du handler et écriture du résultat, avec ou sans métriques par route.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrontServletBenchmark {
+
+    @Param({"on", "off"})
+    public String metrics;
+
+    private FrontServlet servlet;
+    private BenchmarkRequest stringRequest;
+    private BenchmarkRequest notFoundRequest;
+    private BenchmarkResponse response;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        BenchmarkServletContext context = new BenchmarkServletContext();
+        servlet = startServlet(context, metrics);
+
+        stringRequest = new BenchmarkRequest("GET", "/users/42", context).parameter("name", "alice");
+        notFoundRequest = new BenchmarkRequest("GET", "/missing/page", context);
+        response = new BenchmarkResponse();
+
+        dispatchString();
+        if (response.getStatus() != 200 || response.getBytesWritten() == 0) {
+            throw new IllegalStateException("Route /users/{id} non servie : " + response.getStatus());
+        }
+    }
+
+    /**
+     * FrontServlet initialisé sur les contrôleurs des benchmarks, sans fichiers statiques.
+     */
+    static FrontServlet startServlet(BenchmarkServletContext context, String metrics) throws Exception {
+        context.setInitParameter("controllers-packages", "com.framework.benchmarks");
+        context.setInitParameter("route-index", "off");
+        context.setInitParameter("static-resources", "off");
+        context.setInitParameter("metrics", metrics);
+
+        FrontServlet servlet = new FrontServlet();
+        servlet.init(context.servletConfig("front"));
+        return servlet;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        servlet.destroy();
+    }
+
+    @Benchmark
+    public BenchmarkResponse dispatchString() throws Exception {
+        stringRequest.reset();
+        response.reset();
+        servlet.service(stringRequest, response);
+        return response;
+    }
+
+    @Benchmark
+    public BenchmarkResponse dispatchNotFound() throws Exception {
+        notFoundRequest.reset();
+        response.reset();
+        servlet.service(notFoundRequest, response);
+        return response;
+    }
+}
@@ -0,0 +1,63 @@
+package com.framework.benchmarks;
+
+import com.framework.handler.HandlerInvoker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare l'invoker généré à l'enregistrement des routes (MethodHandle constant) avec Method.invoke.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvokerBenchmark {
+
+    @Param({"show", "echo"})
+    private String handlerName;
+
+    private SampleController controller;
+    private Object[] arguments;
+    private HandlerInvoker reflective;
+    private HandlerInvoker generated;
+
+    @Setup
+    public void setup() throws Exception {
+        controller = new SampleController();
+        Method handler;
+        if ("echo".equals(handlerName)) {
+            arguments = new Object[]{42};
+            handler = SampleController.class.getDeclaredMethod("echo", int.class);
+        } else {
+            arguments = new Object[]{42, "alice"};
+            handler = SampleController.class.getDeclaredMethod("show", int.class, String.class);
+        }
+        reflective = new HandlerInvoker.ReflectiveInvoker(handler);
+        generated = HandlerInvoker.of(handler);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return reflective.invoke(controller, arguments);
+    }
+
+    @Benchmark
+    public Object generated() throws Exception {
+        return generated.invoke(controller, arguments);
+    }
+}
@@ -0,0 +1,65 @@
+package com.framework.benchmarks;
+
+import com.framework.Servlets.FrontServlet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfert des données d'un ModelView de 1, 10 ou 50 entrées vers les attributs de la
+ * requête, jusqu'au forward vers la vue (non rendue).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelViewBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int attributes;
+
+    private FrontServlet servlet;
+    private BenchmarkRequest request;
+    private BenchmarkResponse response;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        BenchmarkServletContext context = new BenchmarkServletContext();
+        servlet = FrontServletBenchmark.startServlet(context, "off");
+        request = new BenchmarkRequest("GET", "/dashboard/" + attributes, context);
+        response = new BenchmarkResponse();
+
+        dispatch();
+        if (request.getAttribute("attribute" + (attributes - 1)) == null) {
+            throw new IllegalStateException("ModelView non transféré : " + response.getStatus());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        servlet.destroy();
+    }
+
+    @Benchmark
+    public BenchmarkRequest dispatch() throws Exception {
+        request.reset();
+        response.reset();
+        servlet.service(request, response);
+        return request;
+    }
+}
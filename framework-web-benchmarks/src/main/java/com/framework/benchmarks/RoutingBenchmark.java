@@ -0,0 +1,95 @@
+package com.framework.benchmarks;
+
+import com.framework.Scanners.PathMatch;
+import com.framework.Scanners.UrlDetails;
+import com.framework.binding.ConverterRegistry;
+import com.framework.handler.CompiledRoute;
+import com.framework.handler.ControllerProvider;
+import com.framework.handler.RouteTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche d'une route statique (table exacte) et d'une route dynamique (trie de segments)
+ * dans une table de 10, 100 ou 1 000 routes de chaque sorte. Les chemins cherchés sont ceux
+ * de la dernière route déclarée, ainsi qu'un chemin inconnu.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoutingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int routes;
+
+    private RouteTable table;
+    private PathMatch pathMatch;
+    private String staticPath;
+    private String dynamicPath;
+    private String unknownPath;
+
+    @Setup
+    public void setup() throws Exception {
+        Method handler = SampleController.class.getDeclaredMethod("show", int.class, String.class);
+        ControllerProvider provider = ControllerProvider.forClass(SampleController.class);
+        ConverterRegistry converters = ConverterRegistry.getDefault();
+
+        table = new RouteTable();
+        for (int i = 0; i < routes; i++) {
+            String staticTemplate = "/api/v1/resource" + i + "/list";
+            String dynamicTemplate = "/api/v1/resource" + i + "/{id}/details";
+            table.add(staticTemplate, compile(staticTemplate, handler, provider, converters));
+            table.add(dynamicTemplate, compile(dynamicTemplate, handler, provider, converters));
+        }
+
+        int last = routes - 1;
+        staticPath = "/api/v1/resource" + last + "/list";
+        dynamicPath = "/api/v1/resource" + last + "/42/details";
+        unknownPath = "/api/v2/missing/42";
+        pathMatch = new PathMatch(table.getDynamicRoutes().getMaxVariables());
+    }
+
+    private static CompiledRoute compile(String template, Method handler, ControllerProvider provider,
+                                         ConverterRegistry converters) {
+        UrlDetails details = new UrlDetails(SampleController.class, template);
+        details.addMethod(handler);
+        return new CompiledRoute(details, provider, converters);
+    }
+
+    @Benchmark
+    public CompiledRoute staticLookup() {
+        return table.getExact(staticPath);
+    }
+
+    @Benchmark
+    public CompiledRoute dynamicLookup() {
+        pathMatch.reset(dynamicPath);
+        return table.getDynamicRoutes().match(dynamicPath, pathMatch);
+    }
+
+    @Benchmark
+    public CompiledRoute unknownLookup() {
+        CompiledRoute route = table.getExact(unknownPath);
+        if (route != null) {
+            return route;
+        }
+        pathMatch.reset(unknownPath);
+        return table.getDynamicRoutes().match(unknownPath, pathMatch);
+    }
+}
@@ -0,0 +1,23 @@
+package com.framework.benchmarks;
+
+import com.framework.annotation.Controller;
+import com.framework.annotation.HandlePath;
+
+/**
+ * Contrôleur utilisé par les benchmarks.
+ */
+@Controller
+public class SampleController {
+
+    @HandlePath("/users/{id}")
+    public String show(int id, String name) {
+        return name + '#' + id;
+    }
+
+    /**
+     * Non routé : handler sans travail, pour isoler le coût de l'invocation.
+     */
+    public int echo(int id) {
+        return id;
+    }
+}
@@ -0,0 +1,85 @@
+package com.framework.benchmarks;
+
+import com.framework.view.Template;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendu d'une vue compilée (TemplateEngine) listant 10 ou 100 lignes, écrite dans un flux
+ * qui ne fait que compter les octets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TemplateBenchmark {
+
+    private static final String SOURCE = "<html><head><title>${title}</title></head><body>\n"
+            + "<table>#{for row : rows}<tr><td>${row.id}</td><td>${row.label}</td>"
+            + "<td>#{if row.active}actif#{else}inactif#{end}</td></tr>\n#{end}</table>\n"
+            + "</body></html>\n";
+
+    public record Row(int id, String label, boolean active) {
+    }
+
+    @Param({"10", "100"})
+    public int rows;
+
+    private Template template;
+    private Map<String, Object> model;
+    private CountingStream out;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        template = Template.compile("/benchmark.tpl", SOURCE);
+        List<Row> data = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            data.add(new Row(i, "Ligne <" + i + "> & co", i % 2 == 0));
+        }
+        model = new HashMap<>();
+        model.put("title", "Tableau de bord");
+        model.put("rows", data);
+        out = new CountingStream();
+    }
+
+    @Benchmark
+    public long render() throws Exception {
+        out.count = 0;
+        template.render(model, out);
+        return out.count;
+    }
+
+    private static final class CountingStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.framework.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Reads {@code @Controller}, {@code @HandlePath} and {@code @RequestParam} at build time and
+ * writes the route index loaded by {@code FrontServlet.init}, so that no classpath scanning
+ * happens at startup.
+ * <p>
+ * Each line of the index is {@code path TAB controller TAB method TAB parameterTypes}, where
+ * the parameter types are comma-separated binary names. The index only describes the
+ * classes of the current compilation: the whole controller module must be compiled at once.
+ */
+@SupportedAnnotationTypes({
+        RouteIndexProcessor.CONTROLLER,
+        RouteIndexProcessor.HANDLE_PATH,
+        RouteIndexProcessor.REQUEST_PARAM
+})
+public class RouteIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/framework-web/routes.idx";
+    static final String CONTROLLER = "com.framework.annotation.Controller";
+    static final String HANDLE_PATH = "com.framework.annotation.HandlePath";
+    static final String REQUEST_PARAM = "com.framework.annotation.RequestParam";
+
+    private final Map<String, List<String>> routesByController = new TreeMap<>();
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        TypeElement controller = elements.getTypeElement(CONTROLLER);
+        TypeElement handlePath = elements.getTypeElement(HANDLE_PATH);
+        if (controller == null || handlePath == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(controller)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                collectRoutes((TypeElement) element);
+            }
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(handlePath)) {
+            Element owner = element.getEnclosingElement();
+            if (findAnnotation(owner, CONTROLLER) == null) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "@HandlePath ignoré : " + owner + " n'est pas annoté @Controller", element);
+            }
+        }
+        return false;
+    }
+
+    private void collectRoutes(TypeElement controllerType) {
+        if (controllerType.getModifiers().contains(Modifier.ABSTRACT)) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "@Controller abstrait ignoré : " + controllerType, controllerType);
+            return;
+        }
+
+        String controllerName = elements.getBinaryName(controllerType).toString();
+        List<String> routes = new ArrayList<>();
+
+        for (Element member : controllerType.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            AnnotationMirror mapping = findAnnotation(member, HANDLE_PATH);
+            if (mapping == null) {
+                continue;
+            }
+
+            ExecutableElement method = (ExecutableElement) member;
+            String path = normalisePath(stringValue(mapping, "value", "/"));
+            StringBuilder parameterTypes = new StringBuilder();
+            for (VariableElement parameter : method.getParameters()) {
+                checkRequestParam(parameter);
+                if (parameterTypes.length() > 0) {
+                    parameterTypes.append(',');
+                }
+                parameterTypes.append(binaryName(parameter.asType()));
+            }
+
+            routes.add(path + '\t' + controllerName + '\t' + method.getSimpleName() + '\t' + parameterTypes);
+        }
+
+        routesByController.put(controllerName, routes);
+    }
+
+    private void checkRequestParam(VariableElement parameter) {
+        AnnotationMirror requestParam = findAnnotation(parameter, REQUEST_PARAM);
+        if (requestParam != null && stringValue(requestParam, "value", "").isBlank()) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "@RequestParam sans nom : le nom du paramètre sera utilisé", parameter);
+        }
+    }
+
+    private void writeIndex() {
+        if (routesByController.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# framework-web route index\n");
+                for (List<String> routes : routesByController.values()) {
+                    for (String route : routes) {
+                        writer.write(route);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Impossible d'écrire " + INDEX_LOCATION + " : " + e);
+        }
+    }
+
+    private String binaryName(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind().isPrimitive()) {
+            return erased.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return binaryName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return elements.getBinaryName((TypeElement) ((DeclaredType) erased).asElement()).toString();
+        }
+        return erased.toString();
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        if (element == null) {
+            return null;
+        }
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String stringValue(AnnotationMirror mirror, String name, String defaultValue) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                Object value = entry.getValue().getValue();
+                return value == null ? defaultValue : value.toString();
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String normalisePath(String value) {
+        if (value == null || value.isBlank()) {
+            return "/";
+        }
+        return value.startsWith("/") ? value : "/" + value;
+    }
+}
@@ -0,0 +1,179 @@
+package com.framework.Scanners;
+
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal class-file reader: walks the constant pool and the class-level
+ * {@code RuntimeVisibleAnnotations} attribute without loading the class.
+ */
+final class ClassFileAnnotations {
+
+	private static final int MAGIC = 0xCAFEBABE;
+	private static final byte[] RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.UTF_8);
+
+	private final byte[] bytes;
+	private int position;
+	private int[] utf8Offsets;
+
+	private ClassFileAnnotations(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Descriptor of an annotation type as stored in class files, e.g. {@code Lcom/x/Controller;}.
+	 */
+	static byte[] descriptorOf(Class<? extends Annotation> annotationType) {
+		return ("L" + annotationType.getName().replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Whether the class file declares the runtime-visible annotation at type level.
+	 * Malformed or truncated class files are reported as not annotated.
+	 */
+	static boolean isAnnotatedWith(byte[] classFile, byte[] annotationDescriptor) {
+		try {
+			return new ClassFileAnnotations(classFile).hasClassAnnotation(annotationDescriptor);
+		} catch (IndexOutOfBoundsException | IllegalStateException malformed) {
+			return false;
+		}
+	}
+
+	private boolean hasClassAnnotation(byte[] descriptor) {
+		if (readInt() != MAGIC) {
+			return false;
+		}
+		position += 4; // minor_version, major_version
+		readConstantPool();
+		position += 6; // access_flags, this_class, super_class
+		int interfaces = readUnsignedShort();
+		position += interfaces * 2;
+		skipMembers(); // fields
+		skipMembers(); // methods
+
+		int attributes = readUnsignedShort();
+		for (int i = 0; i < attributes; i++) {
+			int nameIndex = readUnsignedShort();
+			int length = readInt();
+			int end = position + length;
+			if (utf8Equals(nameIndex, RUNTIME_VISIBLE_ANNOTATIONS)) {
+				int annotations = readUnsignedShort();
+				for (int a = 0; a < annotations; a++) {
+					if (utf8Equals(readUnsignedShort(), descriptor)) {
+						return true;
+					}
+					skipElementValuePairs();
+				}
+			}
+			position = end;
+		}
+		return false;
+	}
+
+	private void readConstantPool() {
+		int count = readUnsignedShort();
+		utf8Offsets = new int[count];
+		for (int index = 1; index < count; index++) {
+			int tag = bytes[position++] & 0xFF;
+			switch (tag) {
+				case 1: // Utf8
+					utf8Offsets[index] = position;
+					int length = readUnsignedShortAt(position);
+					position += 2 + length;
+					break;
+				case 7: case 8: case 16: case 19: case 20: // Class, String, MethodType, Module, Package
+					position += 2;
+					break;
+				case 15: // MethodHandle
+					position += 3;
+					break;
+				case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+					position += 4;
+					break;
+				case 5: case 6: // Long, Double take two slots
+					position += 8;
+					index++;
+					break;
+				default:
+					throw new IllegalStateException("Unknown constant pool tag " + tag);
+			}
+		}
+	}
+
+	private void skipMembers() {
+		int count = readUnsignedShort();
+		for (int i = 0; i < count; i++) {
+			position += 6; // access_flags, name_index, descriptor_index
+			int attributes = readUnsignedShort();
+			for (int a = 0; a < attributes; a++) {
+				position += 2; // attribute_name_index
+				int length = readInt();
+				position += length;
+			}
+		}
+	}
+
+	private void skipElementValuePairs() {
+		int pairs = readUnsignedShort();
+		for (int i = 0; i < pairs; i++) {
+			position += 2; // element_name_index
+			skipElementValue();
+		}
+	}
+
+	private void skipElementValue() {
+		int tag = bytes[position++] & 0xFF;
+		switch (tag) {
+			case 'e':
+				position += 4;
+				break;
+			case '@':
+				position += 2;
+				skipElementValuePairs();
+				break;
+			case '[':
+				int values = readUnsignedShort();
+				for (int i = 0; i < values; i++) {
+					skipElementValue();
+				}
+				break;
+			default: // B C D F I J S Z s c
+				position += 2;
+				break;
+		}
+	}
+
+	private boolean utf8Equals(int index, byte[] expected) {
+		if (index <= 0 || index >= utf8Offsets.length || utf8Offsets[index] == 0) {
+			return false;
+		}
+		int offset = utf8Offsets[index];
+		int length = readUnsignedShortAt(offset);
+		if (length != expected.length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (bytes[offset + 2 + i] != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int readUnsignedShort() {
+		int value = readUnsignedShortAt(position);
+		position += 2;
+		return value;
+	}
+
+	private int readUnsignedShortAt(int offset) {
+		return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+	}
+
+	private int readInt() {
+		int value = ((bytes[position] & 0xFF) << 24) | ((bytes[position + 1] & 0xFF) << 16)
+				| ((bytes[position + 2] & 0xFF) << 8) | (bytes[position + 3] & 0xFF);
+		position += 4;
+		return value;
+	}
+}
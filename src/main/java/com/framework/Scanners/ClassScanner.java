@@ -1,11 +1,27 @@
 package com.framework.Scanners;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 public final class ClassScanner {
 
@@ -17,53 +33,206 @@ public final class ClassScanner {
 	 * Locate every concrete class under the provided package.
 	 */
 	public static List<Class<?>> getClassesInPackage(String packageName) {
-		if (packageName == null || packageName.isEmpty()) {
-			return Collections.emptyList();
-		}
+		return loadClasses(findClassNames(Collections.singletonList(packageName), null));
+	}
+
+	/**
+	 * Locate the classes under the package whose bytecode carries {@code annotationType}.
+	 * Class files are read without loading them; only the matching classes are loaded.
+	 */
+	public static List<Class<?>> getAnnotatedClassesInPackage(String packageName,
+			Class<? extends Annotation> annotationType) {
+		return getAnnotatedClassesInPackages(Collections.singletonList(packageName), annotationType);
+	}
 
-		List<Class<?>> classes = new ArrayList<>();
+	/**
+	 * Same as {@link #getAnnotatedClassesInPackage} for several packages. Directories and jar
+	 * entries are scanned in parallel on the common fork-join pool; the result lists the
+	 * packages in the given order and the classes of each package sorted by name.
+	 */
+	public static List<Class<?>> getAnnotatedClassesInPackages(List<String> packageNames,
+			Class<? extends Annotation> annotationType) {
+		return loadClasses(findClassNames(packageNames, ClassFileAnnotations.descriptorOf(annotationType)));
+	}
+
+	/**
+	 * Collect the binary names of the classes under the packages, across every directory and
+	 * jar exposing them. When {@code annotationDescriptor} is set, only annotated classes are kept.
+	 */
+	static Set<String> findClassNames(List<String> packageNames, byte[] annotationDescriptor) {
 		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-		String path = packageName.replace('.', '/');
-		URL resource = classLoader.getResource(path);
+		List<ForkJoinTask<List<String>>> scans = new ArrayList<>();
+		List<Integer> packageOfScan = new ArrayList<>();
+
+		for (int i = 0; i < packageNames.size(); i++) {
+			String packageName = packageNames.get(i);
+			if (packageName == null || packageName.isEmpty()) {
+				continue;
+			}
 
-		if (resource == null) {
-			return Collections.emptyList();
+			String path = packageName.replace('.', '/');
+			Enumeration<URL> resources;
+			try {
+				resources = classLoader.getResources(path);
+			} catch (IOException e) {
+				continue;
+			}
+
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				ForkJoinTask<List<String>> scan = scanTask(resource, packageName, path, annotationDescriptor);
+				if (scan != null) {
+					scans.add(ForkJoinPool.commonPool().submit(scan));
+					packageOfScan.add(i);
+				}
+			}
 		}
 
-		try {
-			File directory = new File(resource.toURI());
-			if (directory.exists()) {
-				scanDirectory(directory, packageName, classes);
+		List<Set<String>> namesByPackage = new ArrayList<>(packageNames.size());
+		for (int i = 0; i < packageNames.size(); i++) {
+			namesByPackage.add(new TreeSet<>());
+		}
+		for (int i = 0; i < scans.size(); i++) {
+			try {
+				namesByPackage.get(packageOfScan.get(i)).addAll(scans.get(i).join());
+			} catch (UncheckedIOException ignored) {
+				// Skip locations that cannot be read
 			}
-		} catch (URISyntaxException e) {
-			return Collections.emptyList();
 		}
 
-		return classes;
+		Set<String> classNames = new LinkedHashSet<>();
+		for (Set<String> names : namesByPackage) {
+			classNames.addAll(names);
+		}
+		return classNames;
+	}
+
+	private static ForkJoinTask<List<String>> scanTask(URL resource, String packageName, String path,
+			byte[] annotationDescriptor) {
+		if ("file".equals(resource.getProtocol())) {
+			try {
+				File directory = new File(resource.toURI());
+				return directory.exists() ? new DirectoryScan(directory, packageName, annotationDescriptor) : null;
+			} catch (URISyntaxException | IllegalArgumentException e) {
+				return null;
+			}
+		}
+		if ("jar".equals(resource.getProtocol())) {
+			return ForkJoinTask.adapt(() -> scanJar(resource, path, annotationDescriptor));
+		}
+		return null;
 	}
 
-	private static void scanDirectory(File directory, String packageName, List<Class<?>> classes) {
-		File[] files = directory.listFiles();
-		if (files == null) {
-			return;
+	/**
+	 * Scans one directory, forking a sub-task per sub-directory.
+	 */
+	private static final class DirectoryScan extends RecursiveTask<List<String>> {
+		private static final long serialVersionUID = 1L;
+
+		private final File directory;
+		private final String packageName;
+		private final byte[] annotationDescriptor;
+
+		DirectoryScan(File directory, String packageName, byte[] annotationDescriptor) {
+			this.directory = directory;
+			this.packageName = packageName;
+			this.annotationDescriptor = annotationDescriptor;
 		}
 
-		for (File file : files) {
-			if (file.isDirectory()) {
-				scanDirectory(file, packageName + "." + file.getName(), classes);
-				continue;
+		@Override
+		protected List<String> compute() {
+			List<String> classNames = new ArrayList<>();
+			File[] files = directory.listFiles();
+			if (files == null) {
+				return classNames;
 			}
 
-			if (!file.getName().endsWith(".class")) {
-				continue;
+			List<DirectoryScan> subScans = new ArrayList<>();
+			for (File file : files) {
+				if (file.isDirectory()) {
+					DirectoryScan subScan = new DirectoryScan(file, packageName + "." + file.getName(), annotationDescriptor);
+					subScan.fork();
+					subScans.add(subScan);
+					continue;
+				}
+
+				if (!isClassFile(file.getName())) {
+					continue;
+				}
+
+				try {
+					if (annotationDescriptor != null
+							&& !ClassFileAnnotations.isAnnotatedWith(Files.readAllBytes(file.toPath()), annotationDescriptor)) {
+						continue;
+					}
+				} catch (IOException e) {
+					continue;
+				}
+
+				classNames.add(packageName + '.' + file.getName().substring(0, file.getName().length() - 6));
 			}
 
-			String className = packageName + '.' + file.getName().substring(0, file.getName().length() - 6);
+			for (DirectoryScan subScan : subScans) {
+				classNames.addAll(subScan.join());
+			}
+			return classNames;
+		}
+	}
+
+	private static List<String> scanJar(URL resource, String path, byte[] annotationDescriptor) {
+		List<String> classNames = new ArrayList<>();
+		try {
+			URLConnection connection = resource.openConnection();
+			if (!(connection instanceof JarURLConnection)) {
+				return classNames;
+			}
+
+			JarURLConnection jarConnection = (JarURLConnection) connection;
+			jarConnection.setUseCaches(false);
+			String prefix = path + '/';
+
+			try (JarFile jar = jarConnection.getJarFile()) {
+				Enumeration<JarEntry> entries = jar.entries();
+				while (entries.hasMoreElements()) {
+					JarEntry entry = entries.nextElement();
+					String name = entry.getName();
+					if (entry.isDirectory() || !name.startsWith(prefix) || !isClassFile(name)) {
+						continue;
+					}
+
+					if (annotationDescriptor != null) {
+						byte[] bytes;
+						try (InputStream in = jar.getInputStream(entry)) {
+							bytes = in.readAllBytes();
+						}
+						if (!ClassFileAnnotations.isAnnotatedWith(bytes, annotationDescriptor)) {
+							continue;
+						}
+					}
+
+					classNames.add(name.substring(0, name.length() - 6).replace('/', '.'));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return classNames;
+	}
+
+	private static boolean isClassFile(String name) {
+		return name.endsWith(".class") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+	}
+
+	private static List<Class<?>> loadClasses(Set<String> classNames) {
+		List<Class<?>> classes = new ArrayList<>(classNames.size());
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		for (String className : classNames) {
 			try {
-				classes.add(Class.forName(className));
-			} catch (ClassNotFoundException ignored) {
+				classes.add(Class.forName(className, false, classLoader));
+			} catch (ClassNotFoundException | LinkageError ignored) {
 				// Skip classes that cannot be loaded
 			}
 		}
+		return classes;
 	}
 }
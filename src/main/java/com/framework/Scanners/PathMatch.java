@@ -0,0 +1,89 @@
+package com.framework.Scanners;
+
+import java.util.Arrays;
+
+/**
+ * Reusable holder for the {variable} segments captured while matching a request path.
+ * Values are kept as offsets into the original path and only materialised on demand.
+ */
+public final class PathMatch {
+
+    private String path = "";
+    private int[] bounds;
+    private int size;
+
+    public PathMatch() {
+        this(4);
+    }
+
+    public PathMatch(int expectedVariables) {
+        this.bounds = new int[Math.max(1, expectedVariables) * 2];
+    }
+
+    /**
+     * Prepare the holder for a new path, discarding previous captures.
+     */
+    public void reset(String path) {
+        this.path = path == null ? "" : path;
+        this.size = 0;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String get(int index) {
+        checkIndex(index);
+        return path.substring(bounds[index * 2], bounds[index * 2 + 1]);
+    }
+
+    public int getStart(int index) {
+        checkIndex(index);
+        return bounds[index * 2];
+    }
+
+    public int getEnd(int index) {
+        checkIndex(index);
+        return bounds[index * 2 + 1];
+    }
+
+    void push(int start, int end) {
+        int slot = size * 2;
+        if (slot + 1 >= bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[slot] = start;
+        bounds[slot + 1] = end;
+        size++;
+    }
+
+    void truncate(int newSize) {
+        this.size = newSize;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Path variable " + index + " out of " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PathMatch[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(i));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,157 @@
+package com.framework.Scanners;
+
+import com.framework.annotation.Controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the route index generated at build time by {@code framework-web-processor}.
+ * Only the indexed controllers are loaded and each handler is resolved directly with
+ * {@link Class#getDeclaredMethod}, so neither the classpath nor the controllers are scanned.
+ */
+public final class RouteIndex {
+
+	public static final String INDEX_LOCATION = "META-INF/framework-web/routes.idx";
+
+	private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+			"boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+			"int", int.class, "long", long.class, "float", float.class, "double", double.class);
+
+	private RouteIndex() {
+		// Utility class
+	}
+
+	/**
+	 * Whether at least one route index is visible from the class loader.
+	 */
+	public static boolean isPresent(ClassLoader classLoader) {
+		return classLoader != null && classLoader.getResource(INDEX_LOCATION) != null;
+	}
+
+	/**
+	 * Build the route registry of the controllers located under one of {@code packageNames}.
+	 * Routes declared twice are merged the same way as {@link ScanControllers#mapHandlePaths}.
+	 */
+	public static Map<String, UrlDetails> load(ClassLoader classLoader, List<String> packageNames) throws IOException {
+		Map<String, UrlDetails> routes = new LinkedHashMap<>();
+		Map<String, Class<?>> controllers = new HashMap<>();
+		Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+
+		while (indexes.hasMoreElements()) {
+			URL index = indexes.nextElement();
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.isBlank() || line.startsWith("#")) {
+						continue;
+					}
+					addRoute(line, index, classLoader, packageNames, controllers, routes);
+				}
+			}
+		}
+
+		return Collections.unmodifiableMap(routes);
+	}
+
+	/**
+	 * Packages of {@code packageNames} holding none of the {@code indexed} controllers. They are
+	 * left to the classpath scan: an index shipped by a library, or built without the
+	 * application classes, must not hide their controllers.
+	 */
+	public static List<String> unindexedPackages(Map<String, UrlDetails> indexed, List<String> packageNames) {
+		List<String> unindexed = new ArrayList<>();
+		for (String packageName : packageNames) {
+			boolean covered = false;
+			for (UrlDetails route : indexed.values()) {
+				if (isInPackages(route.getControllerClass().getName(), List.of(packageName))) {
+					covered = true;
+					break;
+				}
+			}
+			if (!covered) {
+				unindexed.add(packageName);
+			}
+		}
+		return unindexed;
+	}
+
+	private static void addRoute(String line, URL index, ClassLoader classLoader, List<String> packageNames,
+								 Map<String, Class<?>> controllers, Map<String, UrlDetails> routes) {
+		String[] columns = line.split("\t", -1);
+		if (columns.length != 4) {
+			throw new IllegalStateException("Ligne d'index invalide dans " + index + " : " + line);
+		}
+
+		String controllerName = columns[1];
+		if (!isInPackages(controllerName, packageNames)) {
+			return;
+		}
+
+		try {
+			Class<?> controllerClass = controllers.get(controllerName);
+			if (controllerClass == null) {
+				controllerClass = Class.forName(controllerName, false, classLoader);
+				if (!controllerClass.isAnnotationPresent(Controller.class)) {
+					throw new IllegalStateException("Index obsolète : " + controllerName + " n'est plus un @Controller");
+				}
+				controllers.put(controllerName, controllerClass);
+			}
+
+			Method method = controllerClass.getDeclaredMethod(columns[2], parameterTypes(columns[3], classLoader));
+			String path = ScanHandlePath.normalisePath(columns[0]);
+			UrlDetails details = new UrlDetails(controllerClass, path);
+			details.addMethod(method);
+			routes.merge(path, details, (existing, incoming) -> {
+				existing.addMethodsFrom(incoming);
+				return existing;
+			});
+		} catch (ClassNotFoundException | NoSuchMethodException e) {
+			throw new IllegalStateException("Index obsolète (" + index + ") : " + line, e);
+		}
+	}
+
+	private static boolean isInPackages(String className, List<String> packageNames) {
+		for (String packageName : packageNames) {
+			if (className.startsWith(packageName + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Class<?>[] parameterTypes(String declaration, ClassLoader classLoader) throws ClassNotFoundException {
+		if (declaration.isEmpty()) {
+			return new Class<?>[0];
+		}
+
+		String[] names = declaration.split(",");
+		Class<?>[] types = new Class<?>[names.length];
+		for (int i = 0; i < names.length; i++) {
+			types[i] = resolveType(names[i], classLoader);
+		}
+		return types;
+	}
+
+	private static Class<?> resolveType(String name, ClassLoader classLoader) throws ClassNotFoundException {
+		if (name.endsWith("[]")) {
+			Class<?> component = resolveType(name.substring(0, name.length() - 2), classLoader);
+			return Array.newInstance(component, 0).getClass();
+		}
+		Class<?> primitive = PRIMITIVES.get(name);
+		return primitive != null ? primitive : Class.forName(name, false, classLoader);
+	}
+}
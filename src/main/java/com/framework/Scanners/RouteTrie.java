@@ -0,0 +1,167 @@
+package com.framework.Scanners;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Segment trie resolving route templates in one pass over the request path.
+ * Static segments take priority over {variable} segments; when a static branch dead-ends
+ * the search backtracks to the variable branch of the same level.
+ */
+public final class RouteTrie<T> {
+
+    private final Node<T> root = new Node<>();
+    private int maxVariables;
+    private int size;
+    private boolean frozen;
+
+    /**
+     * Register a value under a normalised template such as {@code /users/{id}/edit}.
+     */
+    public void insert(String template, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value is required");
+        }
+        if (frozen) {
+            throw new IllegalStateException("RouteTrie is read-only");
+        }
+
+        String normalised = template == null || template.isBlank() ? "/" : template.trim();
+        String trimmed = normalised.startsWith("/") ? normalised.substring(1) : normalised;
+        Node<T> node = root;
+        int variables = 0;
+
+        if (!trimmed.isEmpty()) {
+            for (String segment : trimmed.split("/")) {
+                if (isDynamicSegment(segment)) {
+                    if (node.variableChild == null) {
+                        node.variableChild = new Node<>();
+                    }
+                    node = node.variableChild;
+                    variables++;
+                } else {
+                    if (node.staticChildren == null) {
+                        node.staticChildren = new HashMap<>();
+                    }
+                    node = node.staticChildren.computeIfAbsent(segment, key -> new Node<>());
+                }
+            }
+        }
+
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        if (!node.values.contains(value)) {
+            node.values.add(value);
+            size++;
+        }
+        maxVariables = Math.max(maxVariables, variables);
+    }
+
+    /**
+     * Refuse any further {@link #insert}: the trie can then be read by several threads
+     * without locking once safely published.
+     */
+    public RouteTrie<T> freeze() {
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Highest number of {variable} segments among the registered templates.
+     */
+    public int getMaxVariables() {
+        return maxVariables;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the first value matching the path, filling captured segments into {@code match}.
+     */
+    public T match(String path, PathMatch match) {
+        return match(path, match, null);
+    }
+
+    /**
+     * Return the first matching value accepted by {@code accept}. The predicate is evaluated
+     * while {@code match} holds the captures of the candidate, so it can bind arguments;
+     * a rejected candidate lets the search continue with the next one in priority order.
+     */
+    public T match(String path, PathMatch match, Predicate<? super T> accept) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        match.reset(path);
+        if (path.length() == 1) {
+            return accept(root, accept);
+        }
+        return search(root, path, 0, match, accept);
+    }
+
+    private T search(Node<T> node, String path, int slash, PathMatch match, Predicate<? super T> accept) {
+        int length = path.length();
+        if (slash >= length) {
+            return accept(node, accept);
+        }
+
+        int start = slash + 1;
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+
+        if (node.staticChildren != null) {
+            Node<T> child = node.staticChildren.get(path.substring(start, end));
+            if (child != null) {
+                T found = search(child, path, end, match, accept);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+
+        if (node.variableChild != null && end > start) {
+            int captured = match.size();
+            match.push(start, end);
+            T found = search(node.variableChild, path, end, match, accept);
+            if (found != null) {
+                return found;
+            }
+            match.truncate(captured);
+        }
+
+        return null;
+    }
+
+    private T accept(Node<T> node, Predicate<? super T> accept) {
+        if (node.values == null) {
+            return null;
+        }
+        for (T value : node.values) {
+            if (accept == null || accept.test(value)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDynamicSegment(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}") && segment.length() > 2;
+    }
+
+    private static final class Node<T> {
+        private Map<String, Node<T>> staticChildren;
+        private Node<T> variableChild;
+        private List<T> values;
+    }
+}
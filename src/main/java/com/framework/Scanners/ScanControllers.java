@@ -5,51 +5,98 @@ import com.framework.annotation.Controller;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.LinkedHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public final class ScanControllers {
 
 	private static final Set<String> scannedPackages = new HashSet<>();
 	private static final List<Class<?>> controllerClasses = new ArrayList<>();
-	private static final Map<Class<?>, List<Method>> controllerHandleMethods = new HashMap<>();
-	private static final Map<Class<?>, Map<String, UrlDetails>> controllerRoutes = new HashMap<>();
+	private static final Map<Class<?>, List<Method>> controllerHandleMethods = new LinkedHashMap<>();
+	private static final Map<Class<?>, Map<String, UrlDetails>> controllerRoutes = new LinkedHashMap<>();
 	private static final Map<String, UrlDetails> routesRegistry = new LinkedHashMap<>();
+	private static final Pattern PACKAGE_SEPARATOR = Pattern.compile("[,\\s]+");
 
 	private ScanControllers() {
 		// Utility class
 	}
 
 	/**
-	 * Discover every class annotated with {@link Controller} within the package.
+	 * Split a {@code controllers-packages} declaration on commas and whitespace,
+	 * keeping the declared order and dropping duplicates.
 	 */
-	public static synchronized List<Class<?>> findControllerClasses(String packageName) {
-		if (packageName == null || packageName.isBlank()) {
-			return Collections.unmodifiableList(new ArrayList<>(controllerClasses));
+	public static List<String> parsePackages(String packagesDeclaration) {
+		if (packagesDeclaration == null || packagesDeclaration.isBlank()) {
+			return Collections.emptyList();
+		}
+
+		Set<String> packages = new LinkedHashSet<>();
+		for (String packageName : PACKAGE_SEPARATOR.split(packagesDeclaration.trim())) {
+			if (!packageName.isEmpty()) {
+				packages.add(packageName);
+			}
 		}
+		return new ArrayList<>(packages);
+	}
 
-		if (!scannedPackages.contains(packageName)) {
-			for (Class<?> candidate : ClassScanner.getClassesInPackage(packageName)) {
-				if (!candidate.isAnnotationPresent(Controller.class)) {
-					continue;
+	/**
+	 * Discover every class annotated with {@link Controller} within the package(s).
+	 * Several packages may be separated by commas or whitespace; they are scanned in parallel
+	 * outside of the registry lock, then merged in declaration order.
+	 */
+	public static List<Class<?>> findControllerClasses(String packagesDeclaration) {
+		List<String> pending = new ArrayList<>();
+		synchronized (ScanControllers.class) {
+			for (String packageName : parsePackages(packagesDeclaration)) {
+				if (!scannedPackages.contains(packageName)) {
+					pending.add(packageName);
 				}
+			}
+			if (pending.isEmpty()) {
+				return Collections.unmodifiableList(new ArrayList<>(controllerClasses));
+			}
+		}
 
-				if (!controllerClasses.contains(candidate)) {
-					controllerClasses.add(candidate);
+		List<Class<?>> candidates = ClassScanner.getAnnotatedClassesInPackages(pending, Controller.class);
+		List<ScannedController> scanned = candidates.parallelStream()
+				.filter(candidate -> candidate.isAnnotationPresent(Controller.class))
+				.map(ScannedController::new)
+				.collect(Collectors.toList());
+
+		synchronized (ScanControllers.class) {
+			for (ScannedController controller : scanned) {
+				if (!controllerClasses.contains(controller.type)) {
+					controllerClasses.add(controller.type);
 				}
 
-				controllerHandleMethods.put(candidate, ScanHandlePath.findHandleMethods(candidate));
-				controllerRoutes.put(candidate, ScanHandlePath.mapHandlePaths(candidate));
+				controllerHandleMethods.put(controller.type, controller.handleMethods);
+				controllerRoutes.put(controller.type, controller.routes);
 			}
 
-			scannedPackages.add(packageName);
+			scannedPackages.addAll(pending);
+			return Collections.unmodifiableList(new ArrayList<>(controllerClasses));
 		}
+	}
 
-		return Collections.unmodifiableList(new ArrayList<>(controllerClasses));
+	/**
+	 * Handle methods and routes of one controller, reflected on a fork-join worker.
+	 */
+	private static final class ScannedController {
+		private final Class<?> type;
+		private final List<Method> handleMethods;
+		private final Map<String, UrlDetails> routes;
+
+		ScannedController(Class<?> type) {
+			this.type = type;
+			this.handleMethods = ScanHandlePath.findHandleMethods(type);
+			this.routes = ScanHandlePath.mapHandlePaths(type);
+		}
 	}
 
 	/**
@@ -71,20 +118,34 @@ public final class ScanControllers {
 
 	/**
 	 * Build a mapping between paths and methods across all discovered controllers.
+	 * Conflicting controllers on the same path are reported by {@link UrlDetails#addMethodsFrom}.
 	 */
-	public static synchronized Map<String, UrlDetails> mapHandlePaths(String packageName) {
-		findControllerClasses(packageName);
-
-		for (Map.Entry<Class<?>, Map<String, UrlDetails>> entry : controllerRoutes.entrySet()) {
-			for (Map.Entry<String, UrlDetails> route : entry.getValue().entrySet()) {
-				routesRegistry.merge(route.getKey(), route.getValue(), (existing, incoming) -> {
-					existing.addMethodsFrom(incoming);
-					return existing;
-				});
+	public static Map<String, UrlDetails> mapHandlePaths(String packagesDeclaration) {
+		findControllerClasses(packagesDeclaration);
+
+		synchronized (ScanControllers.class) {
+			for (Map.Entry<Class<?>, Map<String, UrlDetails>> entry : controllerRoutes.entrySet()) {
+				for (Map.Entry<String, UrlDetails> route : entry.getValue().entrySet()) {
+					routesRegistry.merge(route.getKey(), route.getValue(), (existing, incoming) -> {
+						existing.addMethodsFrom(incoming);
+						return existing;
+					});
+				}
 			}
+
+			return Collections.unmodifiableMap(new LinkedHashMap<>(routesRegistry));
 		}
+	}
 
-		return Collections.unmodifiableMap(new LinkedHashMap<>(routesRegistry));
+	/**
+	 * Forget what was cached for the controller named {@code className} (whatever its class
+	 * loader), so that a reloaded version is reflected again instead of the stale one.
+	 */
+	public static synchronized void invalidate(String className) {
+		controllerClasses.removeIf(type -> type.getName().equals(className));
+		controllerHandleMethods.keySet().removeIf(type -> type.getName().equals(className));
+		controllerRoutes.keySet().removeIf(type -> type.getName().equals(className));
+		routesRegistry.values().removeIf(route -> route.getControllerClass().getName().equals(className));
 	}
 
 	public static void printControllers(String packageName) {
@@ -47,7 +47,7 @@ public final class ScanHandlePath {
 		return routes;
 	}
 
-	private static String normalisePath(String value) {
+	static String normalisePath(String value) {
 		if (value == null || value.isBlank()) {
 			return "/";
 		}
@@ -0,0 +1,772 @@
+package com.framework.Servlets;
+
+import com.framework.json.JsonReader;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.MappingMatch;
+import jakarta.servlet.http.Part;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One sub-request of a batch, read from the JSON body of the batch request:
+ * <pre>
+ * [{"method": "GET", "path": "/users/5", "params": {"fields": "name"}},
+ *  {"method": "POST", "path": "/orders", "headers": {...}, "contentType": "...", "body": "..."}]
+ * </pre>
+ * Only {@code path} is required. Parameters come from the query string of {@code path} and
+ * from {@code params}, whose values are strings, numbers, booleans or arrays of them (the
+ * latter wins for a name given twice); {@code body} is a string.
+ */
+final class BatchRequest {
+
+    /**
+     * Headers of the batch request not inherited by its sub-requests: they describe the batch
+     * body or its transfer, not the sub-request.
+     */
+    private static final Set<String> LOCAL_HEADERS = Set.of("content-type", "content-length",
+            "transfer-encoding", "accept-encoding", "range", "if-range", "expect");
+
+    private String method = "GET";
+    private String path;
+    private final Map<String, String[]> params = new LinkedHashMap<>();
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private String contentType;
+    private byte[] body = new byte[0];
+    private volatile boolean detached;
+
+    String getMethod() {
+        return method;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Whether the sub-request only reads: it can run in parallel with its neighbours.
+     */
+    boolean isSafe() {
+        return method.equals("GET") || method.equals("HEAD") || method.equals("OPTIONS");
+    }
+
+    /**
+     * Read the sub-requests of the batch, stopping after {@code maxSize + 1} of them: a larger
+     * list is refused by the caller without parsing the rest of the body.
+     * {@code IllegalArgumentException} when the body is not a JSON array of sub-requests.
+     */
+    static List<BatchRequest> parse(HttpServletRequest req, int maxSize) throws IOException {
+        JsonReader reader = new JsonReader(req.getInputStream(), StandardCharsets.UTF_8);
+        List<BatchRequest> requests = new ArrayList<>();
+        if (reader.peek() != JsonReader.Token.BEGIN_ARRAY) {
+            throw new IllegalArgumentException("Tableau de sous-requêtes attendu");
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            requests.add(read(reader));
+            if (requests.size() > maxSize) {
+                return requests;
+            }
+        }
+        reader.endArray();
+        return requests;
+    }
+
+    private static BatchRequest read(JsonReader reader) throws IOException {
+        BatchRequest request = new BatchRequest();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "method":
+                    String method = reader.peek() == JsonReader.Token.STRING ? reader.nextScalar().trim() : "";
+                    if (method.isEmpty()) {
+                        throw new IllegalArgumentException("Verbe de sous-requête invalide");
+                    }
+                    request.method = method.toUpperCase(Locale.ROOT);
+                    break;
+                case "path":
+                    request.path = reader.nextScalar();
+                    break;
+                case "params":
+                    readParams(reader, request.params);
+                    break;
+                case "headers":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String header = reader.nextName();
+                        request.headers.put(header.toLowerCase(Locale.ROOT), reader.nextScalar());
+                    }
+                    reader.endObject();
+                    break;
+                case "contentType":
+                    request.contentType = reader.nextScalar();
+                    break;
+                case "body":
+                    String body = reader.nextScalar();
+                    request.body = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        request.readQueryString();
+        if (request.path == null || !request.path.startsWith("/")) {
+            throw new IllegalArgumentException("Chemin de sous-requête invalide : " + request.path);
+        }
+        return request;
+    }
+
+    private static void readParams(JsonReader reader, Map<String, String[]> params) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            List<String> values = new ArrayList<>();
+            if (reader.peek() == JsonReader.Token.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    values.add(reader.nextScalar());
+                }
+                reader.endArray();
+            } else {
+                String value = reader.nextScalar();
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            params.put(name, values.toArray(new String[0]));
+        }
+        reader.endObject();
+    }
+
+    private void readQueryString() {
+        int query = path == null ? -1 : path.indexOf('?');
+        if (query < 0) {
+            return;
+        }
+        String queryString = path.substring(query + 1);
+        path = path.substring(0, query);
+        Map<String, String[]> queryParams = new LinkedHashMap<>();
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            String[] values = queryParams.get(name);
+            if (values == null) {
+                queryParams.put(name, new String[]{value});
+            } else {
+                String[] extended = Arrays.copyOf(values, values.length + 1);
+                extended[values.length] = value;
+                queryParams.put(name, extended);
+            }
+        }
+        queryParams.forEach(params::putIfAbsent);
+    }
+
+    /**
+     * The sub-request seen by the handlers: its own verb, path, parameters, body and
+     * attributes, the other headers of the batch request, and no asynchronous mode.
+     * <p>
+     * Everything read from the batch request is copied here, on the container thread: a
+     * sub-request still running after its batch was answered (timed out, interrupt ignored)
+     * must never reach the batch request, which the container recycles for other clients.
+     * {@code roles} are the roles resolved for the batch user; {@code isUserInRole} answers
+     * false for any other.
+     */
+    HttpServletRequest wrap(HttpServletRequest batch, Set<String> roles) {
+        return new SubRequest(batch, roles);
+    }
+
+    /**
+     * Whether {@code req} is a sub-request of a batch, routed without the container's
+     * security constraints and filters.
+     */
+    static boolean isSubRequest(HttpServletRequest req) {
+        return req instanceof SubRequest;
+    }
+
+    /**
+     * The batch was answered: a sub-request still running can no longer be forwarded.
+     */
+    void detach() {
+        detached = true;
+    }
+
+    private final class SubRequest extends HttpServletRequestWrapper {
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private final Map<String, List<String>> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final ServletContext servletContext;
+        private final String contextPath;
+        private final String servletName;
+        private final String protocol;
+        private final String scheme;
+        private final String serverName;
+        private final int serverPort;
+        private final boolean secure;
+        private final String remoteAddr;
+        private final String remoteHost;
+        private final int remotePort;
+        private final String localAddr;
+        private final String localName;
+        private final int localPort;
+        private final List<Locale> locales;
+        private final Cookie[] cookies;
+        private final HttpSession session;
+        private final String requestedSessionId;
+        private final boolean requestedSessionIdValid;
+        private final boolean requestedSessionIdFromCookie;
+        private final boolean requestedSessionIdFromURL;
+        private final String authType;
+        private final String remoteUser;
+        private final Principal userPrincipal;
+        private final Set<String> userRoles;
+        private final String requestId;
+
+        SubRequest(HttpServletRequest batch, Set<String> roles) {
+            super(batch);
+            for (Enumeration<String> names = batch.getHeaderNames(); names != null && names.hasMoreElements(); ) {
+                String name = names.nextElement();
+                if (!LOCAL_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    requestHeaders.put(name, Collections.list(batch.getHeaders(name)));
+                }
+            }
+            if (contentType != null) {
+                requestHeaders.put("Content-Type", List.of(contentType));
+            }
+            headers.forEach((name, value) -> {
+                if (value != null) {
+                    requestHeaders.put(name, List.of(value));
+                }
+            });
+
+            servletContext = batch.getServletContext();
+            contextPath = batch.getContextPath();
+            HttpServletMapping mapping = batch.getHttpServletMapping();
+            servletName = mapping == null ? null : mapping.getServletName();
+            protocol = batch.getProtocol();
+            scheme = batch.getScheme();
+            serverName = batch.getServerName();
+            serverPort = batch.getServerPort();
+            secure = batch.isSecure();
+            remoteAddr = batch.getRemoteAddr();
+            remoteHost = batch.getRemoteHost();
+            remotePort = batch.getRemotePort();
+            localAddr = batch.getLocalAddr();
+            localName = batch.getLocalName();
+            localPort = batch.getLocalPort();
+            Enumeration<Locale> requestLocales = batch.getLocales();
+            locales = requestLocales == null ? List.of(Locale.getDefault()) : Collections.list(requestLocales);
+            Cookie[] requestCookies = batch.getCookies();
+            cookies = requestCookies == null ? null : requestCookies.clone();
+            // The session outlives the request: the object itself is safe to keep
+            session = batch.getSession(false);
+            requestedSessionId = batch.getRequestedSessionId();
+            requestedSessionIdValid = batch.isRequestedSessionIdValid();
+            requestedSessionIdFromCookie = batch.isRequestedSessionIdFromCookie();
+            requestedSessionIdFromURL = batch.isRequestedSessionIdFromURL();
+            authType = batch.getAuthType();
+            remoteUser = batch.getRemoteUser();
+            userPrincipal = batch.getUserPrincipal();
+            Set<String> granted = new HashSet<>();
+            for (String role : roles) {
+                if (batch.isUserInRole(role)) {
+                    granted.add(role);
+                }
+            }
+            userRoles = granted;
+            requestId = batch.getRequestId();
+        }
+
+        @Override
+        public String getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getContextPath() {
+            return contextPath;
+        }
+
+        @Override
+        public String getRequestURI() {
+            return contextPath + path;
+        }
+
+        @Override
+        public StringBuffer getRequestURL() {
+            return new StringBuffer(scheme).append("://").append(serverName).append(':')
+                    .append(serverPort).append(getRequestURI());
+        }
+
+        @Override
+        public String getServletPath() {
+            return path;
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public String getPathTranslated() {
+            return null;
+        }
+
+        @Override
+        public String getQueryString() {
+            return null;
+        }
+
+        @Override
+        public HttpServletMapping getHttpServletMapping() {
+            return new HttpServletMapping() {
+                @Override
+                public String getMatchValue() {
+                    return path.substring(1);
+                }
+
+                @Override
+                public String getPattern() {
+                    return "/";
+                }
+
+                @Override
+                public String getServletName() {
+                    return servletName;
+                }
+
+                @Override
+                public MappingMatch getMappingMatch() {
+                    return MappingMatch.DEFAULT;
+                }
+            };
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = params.get(name);
+            return values == null || values.length == 0 ? null : values[0];
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            String[] values = params.get(name);
+            return values == null ? null : values.clone();
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return Collections.unmodifiableMap(params);
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(params.keySet());
+        }
+
+        @Override
+        public String getHeader(String name) {
+            List<String> values = requestHeaders.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            List<String> values = requestHeaders.get(name);
+            return Collections.enumeration(values == null ? List.of() : values);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(requestHeaders.keySet());
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            String value = getHeader(name);
+            if (value == null) {
+                return -1L;
+            }
+            try {
+                return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Date invalide dans l'en-tête " + name + " : " + value, e);
+            }
+        }
+
+        @Override
+        public int getIntHeader(String name) {
+            String value = getHeader(name);
+            return value == null ? -1 : Integer.parseInt(value.trim());
+        }
+
+        @Override
+        public Cookie[] getCookies() {
+            return cookies == null ? null : cookies.clone();
+        }
+
+        @Override
+        public Locale getLocale() {
+            return locales.isEmpty() ? Locale.getDefault() : locales.get(0);
+        }
+
+        @Override
+        public Enumeration<Locale> getLocales() {
+            return Collections.enumeration(locales);
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType != null ? contentType : headers.get("content-type");
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public void setCharacterEncoding(String env) {
+            // The body of a sub-request is always UTF-8
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new IllegalStateException("Lecture non bloquante non supportée dans un lot");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Collection<Part> getParts() throws ServletException {
+            throw new ServletException("Sous-requête non multipart");
+        }
+
+        @Override
+        public Part getPart(String name) throws ServletException {
+            throw new ServletException("Sous-requête non multipart");
+        }
+
+        @Override
+        public Map<String, String> getTrailerFields() {
+            return Map.of();
+        }
+
+        @Override
+        public boolean isTrailerFieldsReady() {
+            return true;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            if (value == null) {
+                attributes.remove(name);
+            } else {
+                attributes.put(name, value);
+            }
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public String getProtocol() {
+            return protocol;
+        }
+
+        @Override
+        public String getScheme() {
+            return scheme;
+        }
+
+        @Override
+        public String getServerName() {
+            return serverName;
+        }
+
+        @Override
+        public int getServerPort() {
+            return serverPort;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return secure;
+        }
+
+        @Override
+        public String getRemoteAddr() {
+            return remoteAddr;
+        }
+
+        @Override
+        public String getRemoteHost() {
+            return remoteHost;
+        }
+
+        @Override
+        public int getRemotePort() {
+            return remotePort;
+        }
+
+        @Override
+        public String getLocalAddr() {
+            return localAddr;
+        }
+
+        @Override
+        public String getLocalName() {
+            return localName;
+        }
+
+        @Override
+        public int getLocalPort() {
+            return localPort;
+        }
+
+        @Override
+        public String getRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getProtocolRequestId() {
+            return "";
+        }
+
+        @Override
+        public ServletConnection getServletConnection() {
+            throw new IllegalStateException("Connexion non disponible dans un lot");
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return servletContext;
+        }
+
+        /**
+         * Views are forwarded to while the batch is being answered only; relative paths are
+         * resolved against the sub-request path.
+         */
+        @Override
+        public RequestDispatcher getRequestDispatcher(String target) {
+            if (detached) {
+                throw new IllegalStateException("Lot déjà répondu");
+            }
+            if (target == null) {
+                return null;
+            }
+            String resolved = target.startsWith("/") ? target : path.substring(0, path.lastIndexOf('/') + 1) + target;
+            return servletContext.getRequestDispatcher(resolved);
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        /**
+         * The session of the batch request, if it had one: a sub-request cannot create one.
+         */
+        @Override
+        public HttpSession getSession(boolean create) {
+            if (session == null && create) {
+                throw new IllegalStateException("Création de session impossible dans un lot");
+            }
+            return session;
+        }
+
+        @Override
+        public String changeSessionId() {
+            throw new IllegalStateException("Changement de session impossible dans un lot");
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            return requestedSessionId;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return requestedSessionIdValid;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromCookie() {
+            return requestedSessionIdFromCookie;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdFromURL() {
+            return requestedSessionIdFromURL;
+        }
+
+        @Override
+        public String getAuthType() {
+            return authType;
+        }
+
+        @Override
+        public String getRemoteUser() {
+            return remoteUser;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return userPrincipal;
+        }
+
+        /**
+         * Only the roles listed in {@code batch-roles}, resolved on the container thread.
+         */
+        @Override
+        public boolean isUserInRole(String role) {
+            return userRoles.contains(role);
+        }
+
+        @Override
+        public boolean authenticate(HttpServletResponse response) throws ServletException {
+            throw new ServletException("Authentification impossible dans un lot");
+        }
+
+        @Override
+        public void login(String username, String password) throws ServletException {
+            throw new ServletException("Authentification impossible dans un lot");
+        }
+
+        @Override
+        public void logout() throws ServletException {
+            throw new ServletException("Authentification impossible dans un lot");
+        }
+
+        @Override
+        public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) throws ServletException {
+            throw new ServletException("Changement de protocole impossible dans un lot");
+        }
+
+        @Override
+        public DispatcherType getDispatcherType() {
+            return DispatcherType.REQUEST;
+        }
+
+        @Override
+        public boolean isAsyncSupported() {
+            return false;
+        }
+
+        @Override
+        public boolean isAsyncStarted() {
+            return false;
+        }
+
+        @Override
+        public AsyncContext startAsync() {
+            throw new IllegalStateException("Mode asynchrone non disponible dans un lot");
+        }
+
+        @Override
+        public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+            throw new IllegalStateException("Mode asynchrone non disponible dans un lot");
+        }
+
+        @Override
+        public AsyncContext getAsyncContext() {
+            throw new IllegalStateException("Mode asynchrone non disponible dans un lot");
+        }
+    }
+}
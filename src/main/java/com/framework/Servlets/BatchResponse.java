@@ -0,0 +1,476 @@
+package com.framework.Servlets;
+
+import com.framework.json.Json;
+import com.framework.json.JsonReader;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Response of one sub-request of a batch, kept in memory: status, headers and body are
+ * written into the batch response by {@link #writeJson} once every sub-request is done.
+ * Nothing reaches the wrapped response, which a sub-request still running after its batch
+ * was answered must not touch.
+ */
+final class BatchResponse extends HttpServletResponseWrapper {
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+            if (!committed) {
+                body.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (!committed) {
+                body.write(b, off, len);
+            }
+        }
+    };
+    private int status = SC_OK;
+    private String contentType;
+    private String characterEncoding;
+    private Locale locale;
+    private boolean committed;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BatchResponse(HttpServletResponse batch) {
+        super(batch);
+    }
+
+    /**
+     * A sub-request answered without running (failure, timeout): {@code status} and a plain
+     * text message.
+     */
+    static BatchResponse failed(HttpServletResponse batch, int status, String message) {
+        BatchResponse response = new BatchResponse(batch);
+        response.error(status, message);
+        return response;
+    }
+
+    /**
+     * Replace the body with {@code status} and a plain text message, headers kept, then
+     * ignore anything written afterwards.
+     */
+    private void error(int status, String message) {
+        resetBuffer();
+        this.status = status;
+        contentType = message == null ? null : "text/plain";
+        if (message != null) {
+            characterEncoding = StandardCharsets.UTF_8.name();
+            body.writeBytes(message.getBytes(StandardCharsets.UTF_8));
+        }
+        committed = true;
+    }
+
+    /**
+     * Drop whatever was written, headers included, and answer {@code status} with an
+     * optional plain text message.
+     */
+    void fail(int status, String message) {
+        resetBuffer();
+        headers.clear();
+        error(status, message);
+    }
+
+    long getBytesWritten() {
+        return body.size();
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!committed) {
+            status = sc;
+        }
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        checkNotCommitted();
+        error(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        checkNotCommitted();
+        setHeader("Location", location);
+        error(SC_FOUND, null);
+    }
+
+    private void checkNotCommitted() {
+        if (committed) {
+            throw new IllegalStateException("Réponse déjà envoyée");
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (committed || name == null) {
+            return;
+        }
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            setContentType(value);
+        } else if (value == null) {
+            headers.remove(name);
+        } else {
+            List<String> values = new ArrayList<>(1);
+            values.add(value);
+            headers.put(name, values);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (committed || name == null || value == null) {
+            return;
+        }
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            setContentType(value);
+        } else {
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, formatDate(date));
+    }
+
+    private static String formatDate(long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name) || ("Content-Type".equalsIgnoreCase(name) && contentType != null);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            return getContentType();
+        }
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values == null ? List.of() : new ArrayList<>(values);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return new ArrayList<>(headers.keySet());
+    }
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        StringBuilder header = new StringBuilder(cookie.getName()).append('=').append(cookie.getValue());
+        if (cookie.getPath() != null) {
+            header.append("; Path=").append(cookie.getPath());
+        }
+        if (cookie.getMaxAge() >= 0) {
+            header.append("; Max-Age=").append(cookie.getMaxAge());
+        }
+        if (cookie.getSecure()) {
+            header.append("; Secure");
+        }
+        if (cookie.isHttpOnly()) {
+            header.append("; HttpOnly");
+        }
+        addHeader("Set-Cookie", header.toString());
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (committed) {
+            return;
+        }
+        if (type == null) {
+            contentType = null;
+            return;
+        }
+        String[] parts = type.split(";");
+        contentType = parts[0].trim();
+        // The charset of an obtained writer cannot change anymore
+        for (int i = 1; i < parts.length && writer == null; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                characterEncoding = parameter.substring(8).trim().replace("\"", "");
+            }
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        if (contentType == null) {
+            return null;
+        }
+        return characterEncoding == null ? contentType : contentType + ";charset=" + characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        if (!committed && writer == null) {
+            characterEncoding = charset;
+        }
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding == null ? StandardCharsets.ISO_8859_1.name() : characterEncoding;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        // Computed from the buffered body
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        // Computed from the buffered body
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() déjà appelé");
+        }
+        if (outputStream == null) {
+            outputStream = new BufferStream(sink);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream() déjà appelé");
+        }
+        if (writer == null) {
+            if (characterEncoding == null) {
+                characterEncoding = StandardCharsets.ISO_8859_1.name();
+            }
+            writer = new PrintWriter(new OutputStreamWriter(sink, charset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setLocale(Locale locale) {
+        if (!committed) {
+            this.locale = locale;
+        }
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale == null ? Locale.getDefault() : locale;
+    }
+
+    @Override
+    public String encodeURL(String url) {
+        return url;
+    }
+
+    @Override
+    public String encodeRedirectURL(String url) {
+        return url;
+    }
+
+    @Override
+    public void setTrailerFields(Supplier<Map<String, String>> supplier) {
+        // Sub-responses have no trailers
+    }
+
+    @Override
+    public Supplier<Map<String, String>> getTrailerFields() {
+        return null;
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+        // The whole body is buffered
+    }
+
+    @Override
+    public int getBufferSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        body.reset();
+    }
+
+    @Override
+    public void reset() {
+        checkNotCommitted();
+        resetBuffer();
+        headers.clear();
+        status = SC_OK;
+        contentType = null;
+        if (writer == null) {
+            characterEncoding = null;
+        }
+    }
+
+    /**
+     * Write the sub-response as a JSON object: {@code status}, {@code headers} and
+     * {@code body}, embedded as is when it is valid JSON, as a string when it is text and
+     * in base64 otherwise. HEAD responses have no body.
+     */
+    void writeJson(OutputStream out, boolean head) throws IOException {
+        flushBuffer();
+        Map<String, Object> headerValues = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> headerValues.put(name, values.size() == 1 ? values.get(0) : values));
+        if (contentType != null) {
+            headerValues.put("Content-Type", getContentType());
+        }
+
+        out.write(("{\"status\":" + status + ",\"headers\":").getBytes(StandardCharsets.US_ASCII));
+        Json.write(headerValues, out);
+        if (!head && body.size() > 0) {
+            out.write(",\"body\":".getBytes(StandardCharsets.US_ASCII));
+            if (Json.isJsonMediaType(contentType) && isJson()) {
+                body.writeTo(out);
+            } else if (isText()) {
+                Json.write(body.toString(charset()), out);
+            } else {
+                Json.write(body.toByteArray(), out);
+                out.write(",\"encoding\":\"base64\"".getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        out.write('}');
+    }
+
+    /**
+     * A body declared as JSON is embedded only if it parses, so that a broken handler
+     * output cannot break the whole batch response.
+     */
+    private boolean isJson() {
+        try {
+            JsonReader reader = new JsonReader(new StringReader(body.toString(charset())));
+            reader.skipValue();
+            return reader.peek() == JsonReader.Token.END_DOCUMENT;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean isText() {
+        if (contentType == null) {
+            return writer != null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || Json.isJsonMediaType(type) || type.endsWith("xml")
+                || type.equals("application/javascript") || type.equals("application/x-www-form-urlencoded");
+    }
+
+    private Charset charset() {
+        try {
+            return Charset.forName(getCharacterEncoding());
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static final class BufferStream extends ServletOutputStream {
+        private final OutputStream sink;
+
+        BufferStream(OutputStream sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            sink.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            sink.write(b, off, len);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new IllegalStateException("Écriture non bloquante non supportée dans un lot");
+        }
+    }
+}
@@ -1,10 +1,39 @@
 package com.framework.Servlets;
 
+import com.framework.Scanners.PathMatch;
+import com.framework.Scanners.RouteIndex;
 import com.framework.Scanners.ScanControllers;
 import com.framework.Scanners.UrlDetails;
-import com.framework.annotation.RequestParam;
+import com.framework.admission.AdmissionControl;
+import com.framework.annotation.Compress;
+import com.framework.annotation.HttpMethod;
+import com.framework.binding.ConverterRegistry;
+import com.framework.cache.ResponseCache;
+import com.framework.handler.CompiledRoute;
+import com.framework.handler.ControllerProvider;
+import com.framework.handler.HandlerMethod;
+import com.framework.handler.RouteRegistry;
+import com.framework.handler.RouteTable;
+import com.framework.json.Json;
+import com.framework.json.JsonSyntaxException;
+import com.framework.metrics.MeteredResponse;
+import com.framework.metrics.MetricsRegistry;
+import com.framework.metrics.RequestTrace;
+import com.framework.metrics.RequestTracer;
+import com.framework.metrics.RouteMetrics;
+import com.framework.response.CompressingResponse;
+import com.framework.response.ResponseCompression;
+import com.framework.response.StaticResourceHandler;
+import com.framework.response.StreamingResults;
+import com.framework.response.StringResultWriter;
 import com.framework.util.ModelView;
+import com.framework.view.Template;
+import com.framework.view.TemplateEngine;
+import com.framework.view.TemplateException;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletException;
@@ -13,14 +42,25 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Method;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * FrontServlet - Sprint 1, 2, 2-bis, 3, 4, 4-bis, 5
@@ -32,18 +72,76 @@ import java.util.Map;
  * Sprint 4: Invocation par réflexion et affichage du String retourné
  * Sprint 4-bis: Support de ModelView pour dispatch vers JSP
  * Sprint 5: Transfert des données du ModelView vers request.setAttribute()
+ * Sprint 9: Handlers asynchrones (CompletionStage) et exécution optionnelle sur threads virtuels
+ * Sprint 10: Retours en flux (byte[], InputStream, Path avec Range, Iterator/Stream de morceaux)
+ * Sprint 11: Fichiers statiques servis avant la recherche de route (cache, ETag, Range, .gz)
+ * Sprint 12: Cache des résultats des handlers annotés @Cacheable
+ * Sprint 13: Sérialisation JSON des objets retournés ("produces" ou en-tête Accept)
+ * Sprint 15: Routage par verbe HTTP (GET, POST, PUT, DELETE, PATCH, HEAD, OPTIONS), 405 avec Allow
+ * Sprint 16: Métriques par route (requêtes, erreurs, 404, octets, latences) au format Prometheus
+ * Sprint 17: Traces par phase (routage, binding, contrôleur, handler, rendu) des requêtes lentes ou échantillonnées
+ * Sprint 18: Routes publiées par instantanés immuables (RouteRegistry) et rechargement à chaud des contrôleurs
+ * Sprint 19: Vues compilées (TemplateEngine) rendues sans JSP selon l'extension de la vue
+ * Sprint 20: Compression gzip/deflate des réponses des handlers, globale ou par route (@Compress)
+ * Sprint 21: Résultats String encodés une fois en UTF-8 et écrits avec Content-Length
+ * Sprint 22: Limites d'admission par route ou contrôleur (@Limit) : 429 / 503 avec Retry-After
+ * Sprint 23: Endpoint de lot ("batch-path") exécutant des sous-requêtes en parallèle, réponses dans l'ordre ;
+ *            seuls les handlers @Batchable y sont accessibles, les sous-requêtes ne passant ni par les
+ *            contraintes de sécurité ni par les filtres du conteneur
  * 
- * IMPORTANT: Le servlet intercepte TOUT, mais il laisse passer les fichiers statiques
- * (HTML, CSS, JS, images) en utilisant getServletContext().getResource()
- * pour vérifier si le fichier existe physiquement dans webapp/
+ * IMPORTANT: Le servlet intercepte TOUT. Les fichiers statiques (HTML, CSS, JS, images)
+ * présents dans webapp/ sont servis directement par StaticResourceHandler, hors de
+ * /WEB-INF et /META-INF ; "static-resources" = "off" désactive ce comportement.
  */
-@WebServlet("/")
+@WebServlet(value = "/", asyncSupported = true)
 public class FrontServlet extends HttpServlet {
 
     private static final String CONTROLLERS_PACKAGES_PARAM = "controllers-packages";
+    private static final String ROUTE_INDEX_PARAM = "route-index";
+    private static final String ASYNC_EXECUTION_PARAM = "async-execution";
+    private static final String ASYNC_TIMEOUT_PARAM = "async-timeout";
+    private static final String ASYNC_POOL_SIZE_PARAM = "async-pool-size";
+    private static final String STATIC_RESOURCES_PARAM = "static-resources";
+    private static final String STATIC_CACHE_SIZE_PARAM = "static-cache-size";
+    private static final long DEFAULT_STATIC_CACHE_SIZE = 16L * 1024 * 1024;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final String METRICS_PARAM = "metrics";
+    private static final String METRICS_PATH_PARAM = "metrics-path";
+    private static final String TRACE_THRESHOLD_PARAM = "trace-threshold";
+    private static final String TRACE_SAMPLE_RATE_PARAM = "trace-sample-rate";
+    private static final String ROUTE_RELOAD_PARAM = "route-reload";
+    private static final String VIEW_TEMPLATES_PARAM = "view-templates";
+    private static final String COMPRESSION_PARAM = "compression";
+    private static final String COMPRESSION_MIN_SIZE_PARAM = "compression-min-size";
+    private static final String BATCH_PATH_PARAM = "batch-path";
+    private static final String BATCH_MAX_SIZE_PARAM = "batch-max-size";
+    private static final String BATCH_POOL_SIZE_PARAM = "batch-pool-size";
+    private static final String BATCH_TIMEOUT_PARAM = "batch-timeout";
+    private static final String BATCH_ROLES_PARAM = "batch-roles";
+    private static final int DEFAULT_BATCH_MAX_SIZE = 20;
+    private static final long DEFAULT_BATCH_TIMEOUT = 30_000L;
     public static final String ROUTE_REGISTRY_ATTRIBUTE = "framework.routes";
-    private Map<String, UrlDetails> routeRegistry = new HashMap<>();
-    private List<UrlDetails> dynamicRoutes = new ArrayList<>();
+    public static final String CONVERTER_REGISTRY_ATTRIBUTE = "framework.converters";
+    public static final String RESPONSE_CACHES_ATTRIBUTE = "framework.caches";
+    public static final String METRICS_ATTRIBUTE = "framework.metrics";
+    public static final String ROUTE_REGISTRY_API_ATTRIBUTE = "framework.route-registry";
+    public static final String TEMPLATE_ENGINE_ATTRIBUTE = "framework.templates";
+    private RouteRegistry routeRegistry;
+    private RouteReloader routeReloader;
+    private ExecutorService handlerExecutor;
+    private long asyncTimeout = -1;
+    private StaticResourceHandler staticResources;
+    private MetricsRegistry metrics;
+    private String metricsPath;
+    private RequestTracer tracer;
+    private TemplateEngine templates;
+    private ResponseCompression compression;
+    private boolean compressByDefault;
+    private String batchPath;
+    private int batchMaxSize;
+    private long batchTimeoutNanos;
+    private Set<String> batchRoles = Set.of();
+    private ExecutorService batchExecutor;
 
     /**
      * Sprint 3: Init() effectue le scanning au démarrage
@@ -53,31 +151,371 @@ public class FrontServlet extends HttpServlet {
         super.init(config);
         
         // Récupérer le package à scanner depuis web.xml
-        String packagesDeclaration = config.getInitParameter(CONTROLLERS_PACKAGES_PARAM);
+        String packagesDeclaration = readInitParameter(config, CONTROLLERS_PACKAGES_PARAM);
         if (packagesDeclaration == null || packagesDeclaration.isBlank()) {
-            packagesDeclaration = getServletContext().getInitParameter(CONTROLLERS_PACKAGES_PARAM);
+            throw new ServletException("Paramètre '" + CONTROLLERS_PACKAGES_PARAM + "' non défini dans web.xml");
         }
 
-        if (packagesDeclaration == null || packagesDeclaration.isBlank()) {
-            throw new ServletException("Paramètre '" + CONTROLLERS_PACKAGES_PARAM + "' non défini dans web.xml");
+        // Sprint 16: métriques par route, avant la compilation qui y déclare chaque route
+        configureMetrics(config);
+
+        // Sprint 17: traces par phase des requêtes lentes ou échantillonnées
+        configureTracing(config);
+
+        // Sprint 2-bis: Scanner (ou lire l'index généré) et préparer l'enregistrement des routes
+        Map<String, UrlDetails> scannedRoutes = loadRoutes(config, packagesDeclaration.trim());
+
+        // Sprint 18: routes compilées et publiées par instantanés, modifiables à l'exécution
+        routeRegistry = new RouteRegistry(resolveConverterRegistry());
+        routeRegistry.addListener(this::publishRoutes);
+        routeRegistry.batch().addRoutes(scannedRoutes).commit();
+        getServletContext().setAttribute(ROUTE_REGISTRY_API_ATTRIBUTE, routeRegistry);
+        configureRouteReload(config, packagesDeclaration.trim());
+
+        // Sprint 9: exécution asynchrone optionnelle des handlers
+        configureAsyncExecution(config);
+
+        // Sprint 11: fichiers statiques servis (et mis en cache) avant les routes
+        configureStaticResources(config);
+
+        // Sprint 19: vues compilées rendues directement, JSP restant le défaut
+        configureTemplates(config);
+
+        // Sprint 20: compression des réponses, globale ou par route
+        configureCompression(config);
+
+        // Sprint 23: endpoint de lot, désactivé sans "batch-path"
+        configureBatch(config);
+
+        // Log pour debug
+        Map<String, UrlDetails> routes = routeRegistry.snapshot().getRoutes();
+        getServletContext().log("Routes enregistrees : " + routes.keySet());
+        getServletContext().log("Nombre de routes : " + routes.size());
+    }
+
+    @Override
+    public void destroy() {
+        if (routeReloader != null) {
+            routeReloader.stop();
+            routeReloader = null;
+        }
+        if (handlerExecutor != null) {
+            handlerExecutor.shutdown();
+            handlerExecutor = null;
         }
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+            batchExecutor = null;
+        }
+        if (compression != null) {
+            compression.close();
+        }
+        super.destroy();
+    }
 
-        // Sprint 2-bis: Scanner et préparer l'enregistrement des routes
-        routeRegistry = ScanControllers.mapHandlePaths(packagesDeclaration.trim());
+    /**
+     * Sprint 9: "async-execution" = "virtual" exécute les handlers synchrones hors des threads
+     * du conteneur (threads virtuels, ou pool borné "async-pool-size" avant Java 21, dont la
+     * file d'attente est bornée au même nombre de tâches : au-delà, la requête répond 503).
+     * "async-timeout" fixe le délai par défaut (ms) des exécutions asynchrones.
+     */
+    private void configureAsyncExecution(ServletConfig config) throws ServletException {
+        String timeout = readInitParameter(config, ASYNC_TIMEOUT_PARAM);
+        try {
+            asyncTimeout = timeout == null || timeout.isBlank() ? -1 : Long.parseLong(timeout.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + ASYNC_TIMEOUT_PARAM + "' invalide : " + timeout, e);
+        }
 
-        dynamicRoutes = new ArrayList<>();
-        for (UrlDetails details : routeRegistry.values()) {
-            if (details.isDynamic()) {
-                dynamicRoutes.add(details);
+        String mode = readInitParameter(config, ASYNC_EXECUTION_PARAM);
+        if (mode == null || mode.isBlank() || "off".equalsIgnoreCase(mode.trim())) {
+            return;
+        }
+        if (!"virtual".equalsIgnoreCase(mode.trim())) {
+            throw new ServletException("Paramètre '" + ASYNC_EXECUTION_PARAM + "' invalide : " + mode);
+        }
+
+        handlerExecutor = HandlerExecutors.virtualThreads();
+        if (handlerExecutor == null) {
+            String poolSize = readInitParameter(config, ASYNC_POOL_SIZE_PARAM);
+            int size;
+            try {
+                size = poolSize == null || poolSize.isBlank() ? 64 : Integer.parseInt(poolSize.trim());
+            } catch (NumberFormatException e) {
+                throw new ServletException("Paramètre '" + ASYNC_POOL_SIZE_PARAM + "' invalide : " + poolSize, e);
+            }
+            if (size < 1) {
+                throw new ServletException("Paramètre '" + ASYNC_POOL_SIZE_PARAM + "' invalide : " + poolSize);
             }
+            handlerExecutor = HandlerExecutors.boundedPool(size);
+            getServletContext().log("Threads virtuels indisponibles : pool de " + size + " threads utilise");
         }
+    }
 
-        // Sprint 3: Stocker la HashMap dans le ServletContext pour que les contrôleurs puissent y accéder
-        getServletContext().setAttribute(ROUTE_REGISTRY_ATTRIBUTE, routeRegistry);
-        
-        // Log pour debug
-        getServletContext().log("Routes enregistrees : " + routeRegistry.keySet());
-        getServletContext().log("Nombre de routes : " + routeRegistry.size());
+    /**
+     * Sprint 11: "static-resources" = "off" laisse toutes les requêtes aux contrôleurs ;
+     * "static-cache-size" borne (en octets) le cache des fichiers statiques.
+     */
+    private void configureStaticResources(ServletConfig config) throws ServletException {
+        String mode = readInitParameter(config, STATIC_RESOURCES_PARAM);
+        if (mode != null && "off".equalsIgnoreCase(mode.trim())) {
+            staticResources = null;
+            return;
+        }
+
+        String cacheSize = readInitParameter(config, STATIC_CACHE_SIZE_PARAM);
+        try {
+            long size = cacheSize == null || cacheSize.isBlank() ? DEFAULT_STATIC_CACHE_SIZE : Long.parseLong(cacheSize.trim());
+            staticResources = new StaticResourceHandler(getServletContext(), size);
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + STATIC_CACHE_SIZE_PARAM + "' invalide : " + cacheSize, e);
+        }
+    }
+
+    /**
+     * Sprint 19: "view-templates" liste les extensions des vues rendues par le TemplateEngine
+     * (".tpl" par défaut) ; "off" renvoie toutes les vues vers le conteneur (JSP).
+     */
+    private void configureTemplates(ServletConfig config) {
+        String declaration = readInitParameter(config, VIEW_TEMPLATES_PARAM);
+        if (declaration != null && "off".equalsIgnoreCase(declaration.trim())) {
+            templates = null;
+            return;
+        }
+
+        List<String> extensions = declaration == null || declaration.isBlank()
+                ? List.of(TemplateEngine.DEFAULT_EXTENSION)
+                : Arrays.asList(declaration.split("[,\\s]+"));
+        templates = new TemplateEngine(getServletContext()::getResourceAsStream, extensions);
+        getServletContext().setAttribute(TEMPLATE_ENGINE_ATTRIBUTE, templates);
+    }
+
+    /**
+     * Sprint 20: "compression" = "on" compresse les réponses des handlers (les routes annotées
+     * @Compress restent compressées sinon) ; "compression-min-size" fixe la taille minimale
+     * compressée, en octets.
+     */
+    private void configureCompression(ServletConfig config) throws ServletException {
+        String mode = readInitParameter(config, COMPRESSION_PARAM);
+        if (mode != null && !mode.isBlank() && !"on".equalsIgnoreCase(mode.trim()) && !"off".equalsIgnoreCase(mode.trim())) {
+            throw new ServletException("Paramètre '" + COMPRESSION_PARAM + "' invalide : " + mode);
+        }
+        compressByDefault = mode != null && "on".equalsIgnoreCase(mode.trim());
+
+        String minSize = readInitParameter(config, COMPRESSION_MIN_SIZE_PARAM);
+        try {
+            int size = minSize == null || minSize.isBlank() ? ResponseCompression.DEFAULT_MIN_SIZE : Integer.parseInt(minSize.trim());
+            compression = new ResponseCompression(size, Runtime.getRuntime().availableProcessors() * 2);
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + COMPRESSION_MIN_SIZE_PARAM + "' invalide : " + minSize, e);
+        }
+    }
+
+    /**
+     * Sprint 23: "batch-path" active l'endpoint de lot sur ce chemin ; "batch-max-size" borne
+     * le nombre de sous-requêtes (20), "batch-pool-size" les threads qui les exécutent (deux par
+     * processeur, quatre au moins) et "batch-timeout" la durée d'un lot (30 000 ms) ;
+     * "batch-roles" liste les rôles résolus pour l'utilisateur du lot (isUserInRole des sous-requêtes).
+     */
+    private void configureBatch(ServletConfig config) throws ServletException {
+        String path = readInitParameter(config, BATCH_PATH_PARAM);
+        if (path == null || path.isBlank()) {
+            batchPath = null;
+            return;
+        }
+        if (!path.trim().startsWith("/")) {
+            throw new ServletException("Paramètre '" + BATCH_PATH_PARAM + "' invalide : " + path);
+        }
+
+        String maxSize = readInitParameter(config, BATCH_MAX_SIZE_PARAM);
+        String poolSize = readInitParameter(config, BATCH_POOL_SIZE_PARAM);
+        String timeout = readInitParameter(config, BATCH_TIMEOUT_PARAM);
+        int threads;
+        try {
+            batchMaxSize = maxSize == null || maxSize.isBlank() ? DEFAULT_BATCH_MAX_SIZE : Integer.parseInt(maxSize.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + BATCH_MAX_SIZE_PARAM + "' invalide : " + maxSize, e);
+        }
+        try {
+            threads = poolSize == null || poolSize.isBlank()
+                    ? Math.max(4, Runtime.getRuntime().availableProcessors() * 2) : Integer.parseInt(poolSize.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + BATCH_POOL_SIZE_PARAM + "' invalide : " + poolSize, e);
+        }
+        try {
+            batchTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout == null || timeout.isBlank()
+                    ? DEFAULT_BATCH_TIMEOUT : Long.parseLong(timeout.trim()));
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + BATCH_TIMEOUT_PARAM + "' invalide : " + timeout, e);
+        }
+        if (batchMaxSize < 1) {
+            throw new ServletException("Paramètre '" + BATCH_MAX_SIZE_PARAM + "' invalide : " + maxSize);
+        }
+        if (threads < 1) {
+            throw new ServletException("Paramètre '" + BATCH_POOL_SIZE_PARAM + "' invalide : " + poolSize);
+        }
+        if (batchTimeoutNanos <= 0) {
+            throw new ServletException("Paramètre '" + BATCH_TIMEOUT_PARAM + "' invalide : " + timeout);
+        }
+
+        String roles = readInitParameter(config, BATCH_ROLES_PARAM);
+        batchRoles = roles == null || roles.isBlank() ? Set.of() : Set.copyOf(Arrays.asList(roles.trim().split("[,\\s]+")));
+        batchPath = path.trim();
+        // File d'attente bornée : au-delà, une sous-requête refusée répond 503
+        int queueCapacity = (int) Math.min(Integer.MAX_VALUE, (long) batchMaxSize * threads);
+        batchExecutor = HandlerExecutors.boundedPool(threads, queueCapacity, "framework-batch-");
+    }
+
+    /**
+     * Sprint 16: "metrics" = "off" désactive la mesure des requêtes ; "metrics-path" expose
+     * les métriques au format Prometheus sur ce chemin interne (aucun chemin par défaut).
+     */
+    private void configureMetrics(ServletConfig config) throws ServletException {
+        String mode = readInitParameter(config, METRICS_PARAM);
+        if (mode != null && "off".equalsIgnoreCase(mode.trim())) {
+            metrics = null;
+            metricsPath = null;
+            return;
+        }
+
+        metrics = new MetricsRegistry();
+        getServletContext().setAttribute(METRICS_ATTRIBUTE, metrics);
+
+        String path = readInitParameter(config, METRICS_PATH_PARAM);
+        if (path == null || path.isBlank()) {
+            metricsPath = null;
+        } else if (!path.trim().startsWith("/")) {
+            throw new ServletException("Paramètre '" + METRICS_PATH_PARAM + "' invalide : " + path);
+        } else {
+            metricsPath = path.trim();
+        }
+    }
+
+    /**
+     * Sprint 17: "trace-threshold" (ms) journalise le détail par phase des requêtes plus lentes,
+     * "trace-sample-rate" (0 à 1) celui d'une fraction des autres. Sans l'un ni l'autre, aucune
+     * mesure n'est prise.
+     */
+    private void configureTracing(ServletConfig config) throws ServletException {
+        String threshold = readInitParameter(config, TRACE_THRESHOLD_PARAM);
+        String sampleRate = readInitParameter(config, TRACE_SAMPLE_RATE_PARAM);
+        long thresholdNanos;
+        double rate;
+        try {
+            thresholdNanos = threshold == null || threshold.isBlank()
+                    ? -1 : TimeUnit.MILLISECONDS.toNanos(Long.parseLong(threshold.trim()));
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + TRACE_THRESHOLD_PARAM + "' invalide : " + threshold, e);
+        }
+        try {
+            rate = sampleRate == null || sampleRate.isBlank() ? 0 : Double.parseDouble(sampleRate.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Paramètre '" + TRACE_SAMPLE_RATE_PARAM + "' invalide : " + sampleRate, e);
+        }
+        if (rate < 0 || rate > 1) {
+            throw new ServletException("Paramètre '" + TRACE_SAMPLE_RATE_PARAM + "' invalide : " + sampleRate);
+        }
+
+        tracer = thresholdNanos < 0 && rate == 0 ? null
+                : new RequestTracer(thresholdNanos, rate, message -> getServletContext().log(message));
+    }
+
+    /**
+     * Lire un paramètre d'initialisation du servlet, puis du contexte à défaut.
+     */
+    private String readInitParameter(ServletConfig config, String name) {
+        String value = config.getInitParameter(name);
+        if (value == null || value.isBlank()) {
+            value = getServletContext().getInitParameter(name);
+        }
+        return value;
+    }
+
+    /**
+     * Utiliser l'index généré par framework-web-processor lorsqu'il est présent,
+     * sinon scanner les packages des contrôleurs.
+     */
+    private Map<String, UrlDetails> loadRoutes(ServletConfig config, String packagesDeclaration) throws ServletException {
+        String routeIndexMode = readInitParameter(config, ROUTE_INDEX_PARAM);
+        boolean indexAllowed = routeIndexMode == null || !"off".equalsIgnoreCase(routeIndexMode.trim());
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (indexAllowed && RouteIndex.isPresent(classLoader)) {
+            List<String> packages = ScanControllers.parsePackages(packagesDeclaration);
+            Map<String, UrlDetails> indexed;
+            try {
+                indexed = RouteIndex.load(classLoader, packages);
+            } catch (IOException | RuntimeException e) {
+                throw new ServletException("Index de routes illisible : " + RouteIndex.INDEX_LOCATION, e);
+            }
+            getServletContext().log("Routes chargees depuis " + RouteIndex.INDEX_LOCATION);
+
+            // Un index d'une bibliothèque (ou construit sans les classes de l'application) ne
+            // masque pas les contrôleurs des packages qu'il ne couvre pas : ceux-ci sont scannés
+            List<String> unindexed = RouteIndex.unindexedPackages(indexed, packages);
+            if (unindexed.isEmpty()) {
+                return indexed;
+            }
+            getServletContext().log("Packages absents de l'index, scannes : " + unindexed);
+            Map<String, UrlDetails> routes = new LinkedHashMap<>(indexed);
+            ScanControllers.mapHandlePaths(String.join(",", unindexed)).forEach((path, details) ->
+                    routes.merge(path, details, (existing, incoming) -> {
+                        UrlDetails merged = new UrlDetails(existing.getControllerClass(), path);
+                        merged.addMethodsFrom(existing);
+                        merged.addMethodsFrom(incoming);
+                        return merged;
+                    }));
+            return routes;
+        }
+
+        // Sprint 3: plusieurs packages séparés par des virgules ou des espaces, scannés en parallèle
+        return ScanControllers.mapHandlePaths(packagesDeclaration);
+    }
+
+    /**
+     * Sprint 18: "route-reload" = "on" surveille les répertoires de classes des contrôleurs
+     * et republie les routes des classes recompilées (mode développement).
+     */
+    private void configureRouteReload(ServletConfig config, String packagesDeclaration) throws ServletException {
+        String mode = readInitParameter(config, ROUTE_RELOAD_PARAM);
+        if (mode == null || mode.isBlank() || "off".equalsIgnoreCase(mode.trim())) {
+            return;
+        }
+        if (!"on".equalsIgnoreCase(mode.trim())) {
+            throw new ServletException("Paramètre '" + ROUTE_RELOAD_PARAM + "' invalide : " + mode);
+        }
+
+        try {
+            routeReloader = new RouteReloader(routeRegistry, ScanControllers.parsePackages(packagesDeclaration),
+                    Thread.currentThread().getContextClassLoader(), getServletContext()::log);
+            routeReloader.start();
+        } catch (IOException e) {
+            throw new ServletException("Surveillance des contrôleurs impossible", e);
+        }
+    }
+
+    /**
+     * Sprint 18: à chaque instantané publié, exposer les routes et les caches dans le contexte
+     * (Sprint 3, Sprint 12) et déclarer les nouvelles routes dans les métriques (Sprint 16).
+     */
+    private void publishRoutes(RouteRegistry.Snapshot snapshot) {
+        if (metrics != null) {
+            for (CompiledRoute route : snapshot.getCompiledRoutes().values()) {
+                metrics.forRoute(route.getTemplate());
+            }
+        }
+        getServletContext().setAttribute(ROUTE_REGISTRY_ATTRIBUTE, snapshot.getRoutes());
+        getServletContext().setAttribute(RESPONSE_CACHES_ATTRIBUTE, snapshot.getResponseCaches());
+    }
+
+    private ConverterRegistry resolveConverterRegistry() {
+        Object declared = getServletContext().getAttribute(CONVERTER_REGISTRY_ATTRIBUTE);
+        if (declared instanceof ConverterRegistry) {
+            return (ConverterRegistry) declared;
+        }
+        ConverterRegistry converters = ConverterRegistry.getDefault();
+        getServletContext().setAttribute(CONVERTER_REGISTRY_ATTRIBUTE, converters);
+        return converters;
     }
 
     /**
@@ -96,6 +534,48 @@ public class FrontServlet extends HttpServlet {
         processRequest(req, resp);
     }
 
+    /**
+     * Sprint 15: Intercepter les requêtes PUT
+     */
+    @Override
+    protected void doPut(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        processRequest(req, resp);
+    }
+
+    /**
+     * Sprint 15: Intercepter les requêtes DELETE
+     */
+    @Override
+    protected void doDelete(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        processRequest(req, resp);
+    }
+
+    /**
+     * Sprint 15: OPTIONS est routé vers les handlers qui le déclarent, sinon la réponse
+     * liste les verbes acceptés par le chemin dans l'en-tête Allow.
+     */
+    @Override
+    protected void doOptions(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if ("*".equals(req.getRequestURI())) {
+            super.doOptions(req, resp);
+            return;
+        }
+        processRequest(req, resp);
+    }
+
+    /**
+     * Sprint 15: HttpServlet ne connaît pas PATCH (501) ; il est routé comme les autres verbes.
+     * HEAD reste traité par HttpServlet.doHead, qui appelle doGet sans corps de réponse.
+     */
+    @Override
+    protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if ("PATCH".equals(req.getMethod())) {
+            processRequest(req, resp);
+            return;
+        }
+        super.service(req, resp);
+    }
+
     /**
      * Traiter toutes les requêtes
      */
@@ -106,391 +586,804 @@ public class FrontServlet extends HttpServlet {
             path = "/";
         }
 
-        // Sprint 2-bis: Chercher d'abord une correspondance exacte parmi les routes scannées
-        UrlDetails exactMatch = routeRegistry.get(path);
-        if (exactMatch != null && invokeMatchingHandler(exactMatch, Collections.emptyList(), req, resp)) {
+        // Sprint 16: endpoint interne des métriques
+        if (metricsPath != null && metricsPath.equals(path)) {
+            resp.setContentType(MetricsRegistry.PROMETHEUS_CONTENT_TYPE);
+            metrics.writePrometheus(resp.getWriter());
             return;
         }
 
-        // Sprint 3-ter: Rechercher ensuite une route dynamique avec segments {variable}
-        for (UrlDetails candidate : dynamicRoutes) {
-            List<String> extractedValues = candidate.match(path);
-            if (extractedValues == null) {
-                continue;
+        // Sprint 23: endpoint de lot, ses sous-requêtes sont mesurées chacune sur sa route
+        if (batchPath != null && batchPath.equals(path)) {
+            processBatch(req, resp);
+            return;
+        }
+
+        // Sprint 11: un fichier existant dans webapp/ est servi sans passer par les routes
+        if (staticResources != null && staticResources.handle(req, resp)) {
+            return;
+        }
+
+        HandlerSelection selection = new HandlerSelection();
+        if (metrics == null && tracer == null) {
+            routeRequest(path, req, resp, selection);
+            return;
+        }
+
+        // Sprint 16: mesurer la requête et l'imputer au modèle de la route retenue
+        long start = System.nanoTime();
+        MeteredResponse metered = metrics == null ? null : new MeteredResponse(resp);
+        if (tracer != null) {
+            selection.trace = tracer.begin(start, req.getMethod(), path);
+        }
+        boolean failed = true;
+        try {
+            routeRequest(path, req, metered == null ? resp : metered, selection);
+            failed = false;
+        } finally {
+            boolean async = !failed && req.isAsyncStarted();
+            if (metered != null) {
+                RouteMetrics routeMetrics = metrics.forRoute(selection.route == null ? null : selection.route.getTemplate());
+                if (async) {
+                    req.getAsyncContext().addListener(new MetricsListener(routeMetrics, metered, start));
+                } else {
+                    routeMetrics.record(metered.getStatus(), System.nanoTime() - start, metered.getBytesWritten(), failed);
+                }
             }
-            if (invokeMatchingHandler(candidate, extractedValues, req, resp)) {
-                return;
+            // Sprint 17: une requête asynchrone termine sa trace à la fin du rendu (completeAsync)
+            if (selection.trace != null && !async) {
+                tracer.finish(selection.trace);
             }
         }
-
-        // Sprint 2-bis: Erreur 404 si ni contrôleur ni fichier statique trouvé
-        resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
-        resp.setContentType("text/plain;charset=UTF-8");
-        resp.getWriter().println("Erreur 404 : " + path + " introuvable.");
     }
 
     /**
-     * Parcours les handlers associés à une URL et exécute le premier dont la signature
-     * est compatible avec les paramètres préparés (requête, réponse, variables dynamiques).
+     * Sprint 23: exécuter les sous-requêtes d'un lot (POST d'un tableau JSON, voir BatchRequest)
+     * et répondre un tableau JSON de leurs réponses, dans l'ordre des sous-requêtes.
+     * Les lectures (GET, HEAD, OPTIONS) consécutives s'exécutent en parallèle ; une écriture
+     * attend les sous-requêtes qui la précèdent et passe seule, avant celles qui la suivent.
+     * L'échec d'une sous-requête (500) ou son dépassement du délai du lot (504) n'affecte
+     * pas les autres ; une sous-requête abandonnée (délai dépassé) pouvant encore s'exécuter,
+     * aucune des suivantes n'est alors lancée (504).
      */
-    private boolean invokeMatchingHandler(UrlDetails urlDetails, List<String> pathVariables,
-                                          HttpServletRequest req, HttpServletResponse resp)
-            throws ServletException, IOException {
-        for (Method handler : urlDetails.getMethods()) {
-            Object[] arguments;
-            try {
-                arguments = resolveArguments(urlDetails, handler, pathVariables, req, resp);
-            } catch (UnsupportedOperationException unsupported) {
-                throw new ServletException("Type de paramètre non supporté : " + handler, unsupported);
-            }
+    private void processBatch(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!"POST".equals(req.getMethod())) {
+            resp.setHeader("Allow", "POST");
+            resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
 
-            if (arguments == null) {
-                continue;
+        List<BatchRequest> requests;
+        try {
+            requests = BatchRequest.parse(req, batchMaxSize);
+        } catch (IllegalArgumentException e) {
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (requests.size() > batchMaxSize) {
+            resp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Plus de " + batchMaxSize + " sous-requêtes dans le lot");
+            return;
+        }
+
+        long deadline = System.nanoTime() + batchTimeoutNanos;
+        BatchResponse[] responses = new BatchResponse[requests.size()];
+        Future<?>[] running = new Future<?>[requests.size()];
+        int awaited = 0;
+        boolean abandoned = false;
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                BatchRequest request = requests.get(i);
+                if (!request.isSafe() && !abandoned) {
+                    abandoned = !awaitBatch(running, responses, awaited, i, deadline, resp);
+                    awaited = i;
+                }
+                if (abandoned || System.nanoTime() - deadline >= 0) {
+                    abandoned = true;
+                    responses[i] = BatchResponse.failed(resp, HttpServletResponse.SC_GATEWAY_TIMEOUT, "Délai du lot dépassé");
+                    continue;
+                }
+
+                // Copie de la requête du lot faite ici, sur le thread du conteneur
+                HttpServletRequest subRequest = request.wrap(req, batchRoles);
+                BatchResponse response = new BatchResponse(resp);
+                responses[i] = response;
+                try {
+                    running[i] = batchExecutor.submit(() -> executeSubRequest(request, subRequest, response));
+                } catch (RejectedExecutionException rejected) {
+                    responses[i] = BatchResponse.failed(resp, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Lot refusé");
+                }
+                if (!request.isSafe()) {
+                    abandoned = !awaitBatch(running, responses, i, i + 1, deadline, resp);
+                    awaited = i + 1;
+                }
             }
+            awaitBatch(running, responses, awaited, requests.size(), deadline, resp);
+        } finally {
+            // Une sous-requête encore en cours ne peut plus atteindre la requête du lot
+            for (BatchRequest request : requests) {
+                request.detach();
+            }
+        }
 
-            executeHandler(handler, arguments, req, resp);
-            return true;
+        ByteArrayOutputStream body = new ByteArrayOutputStream(256 * responses.length);
+        body.write('[');
+        for (int i = 0; i < responses.length; i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            responses[i].writeJson(body, "HEAD".equals(requests.get(i).getMethod()));
         }
+        body.write(']');
 
-        return false;
+        resp.setContentType(Json.CONTENT_TYPE);
+        resp.setContentLength(body.size());
+        body.writeTo(resp.getOutputStream());
     }
 
-    private Object[] resolveArguments(UrlDetails urlDetails, Method handler, List<String> pathVariables,
-                                      HttpServletRequest req, HttpServletResponse resp) {
-        java.lang.reflect.Parameter[] parameters = handler.getParameters();
-        List<Object> arguments = new ArrayList<>(parameters.length);
-        // Sprint 6-ter: extraire les segments dynamiques {variable} de l'URL
-        List<PathVariableValue> dynamicSegments = buildPathVariableValues(urlDetails.getParameterNames(), pathVariables);
-        Map<String, String[]> requestParams = req.getParameterMap();
-
-        for (java.lang.reflect.Parameter parameter : parameters) {
-            Class<?> paramType = parameter.getType();
-
-            if (HttpServletRequest.class.isAssignableFrom(paramType)) {
-                arguments.add(req);
+    /**
+     * Sprint 23: attendre les sous-requêtes [from, to) jusqu'à l'échéance du lot ; celles qui
+     * ne sont pas terminées sont interrompues et répondent 504. Retourne false si l'une d'elles
+     * a été abandonnée.
+     */
+    private boolean awaitBatch(Future<?>[] running, BatchResponse[] responses, int from, int to, long deadline,
+                            HttpServletResponse resp) {
+        boolean completed = true;
+        for (int i = from; i < to; i++) {
+            if (running[i] == null) {
                 continue;
             }
-
-            if (HttpServletResponse.class.isAssignableFrom(paramType)) {
-                arguments.add(resp);
-                continue;
+            try {
+                running[i].get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                completed = false;
+                running[i].cancel(true);
+                responses[i] = BatchResponse.failed(resp, HttpServletResponse.SC_GATEWAY_TIMEOUT, "Délai du lot dépassé");
+            } catch (ExecutionException e) {
+                getServletContext().log("Erreur lors de l'exécution d'une sous-requête", e.getCause());
+                responses[i] = BatchResponse.failed(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completed = false;
+                running[i].cancel(true);
+                responses[i] = BatchResponse.failed(resp, HttpServletResponse.SC_SERVICE_UNAVAILABLE, null);
             }
+            running[i] = null;
+        }
+        return completed;
+    }
 
-            // Sprint 6-bis: associer un nom explicite via @RequestParam
-            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
-            String annotatedName = null;
-            if (requestParam != null) {
-                annotatedName = requestParam.value();
-                if (annotatedName != null) {
-                    annotatedName = annotatedName.trim();
-                    if (annotatedName.isEmpty()) {
-                        annotatedName = null;
-                    }
-                }
+    /**
+     * Sprint 23: router une sous-requête comme une requête ordinaire (instantané des routes,
+     * binding, cache, limites), en mode synchrone ; une erreur devient sa réponse 500, un
+     * CompletionStage non terminé dans son délai sa réponse 504.
+     */
+    private void executeSubRequest(BatchRequest request, HttpServletRequest req, BatchResponse response) {
+        HandlerSelection selection = new HandlerSelection();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            routeRequest(request.getPath(), req, response, selection);
+            failed = false;
+        } catch (ServletException | IOException | RuntimeException e) {
+            getServletContext().log("Erreur lors de l'exécution de la sous-requête " + request.getMethod() + " "
+                    + request.getPath(), e);
+            if (e instanceof ServletException && e.getCause() instanceof TimeoutException) {
+                response.fail(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Délai d'exécution dépassé");
+            } else {
+                response.fail(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, null);
+            }
+        } finally {
+            if (metrics != null) {
+                metrics.forRoute(selection.route == null ? null : selection.route.getTemplate())
+                        .record(response.getStatus(), System.nanoTime() - start, response.getBytesWritten(), failed);
             }
+        }
+    }
 
-            String paramName = parameter.getName();
-            String rawValue = null;
+    /**
+     * Sprint 16: mesure d'une requête asynchrone, enregistrée quand l'AsyncContext se termine.
+     */
+    private static final class MetricsListener implements AsyncListener {
+        private final RouteMetrics routeMetrics;
+        private final MeteredResponse response;
+        private final long start;
+        private volatile boolean failed;
 
-            String[] candidateNames;
-            if (annotatedName != null && paramName != null && !annotatedName.equals(paramName)) {
-                candidateNames = new String[]{annotatedName, paramName};
-            } else if (annotatedName != null) {
-                candidateNames = new String[]{annotatedName};
-            } else if (paramName != null) {
-                candidateNames = new String[]{paramName};
-            } else {
-                candidateNames = new String[0];
-            }
+        MetricsListener(RouteMetrics routeMetrics, MeteredResponse response, long start) {
+            this.routeMetrics = routeMetrics;
+            this.response = response;
+            this.start = start;
+        }
 
-            // Sprint 6-ter: privilégier la correspondance par nom sur les segments d'URL
-            for (String candidate : candidateNames) {
-                PathVariableValue matched = consumePathVariableByName(dynamicSegments, candidate);
-                if (matched != null) {
-                    rawValue = matched.value();
-                    break;
-                }
-            }
+        @Override
+        public void onComplete(AsyncEvent event) {
+            routeMetrics.record(response.getStatus(), System.nanoTime() - start, response.getBytesWritten(), failed);
+        }
 
-            // Sprint 6: rechercher ensuite les paramètres dans la query string / formulaire
-            if (rawValue == null && candidateNames.length > 0) {
-                for (String candidate : candidateNames) {
-                    if (candidate == null) {
-                        continue;
-                    }
-                    String[] candidates = requestParams.get(candidate);
-                    if (candidates != null && candidates.length > 0) {
-                        rawValue = candidates[0];
-                        break;
-                    }
-                }
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // Le statut 503 posé à l'expiration est compté comme une erreur
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Rien à faire
+        }
+    }
+
+    /**
+     * Chercher la route du verbe et du chemin, puis exécuter le handler retenu ou répondre
+     * 404/405.
+     */
+    private void routeRequest(String path, HttpServletRequest req, HttpServletResponse resp,
+                              HandlerSelection selection) throws ServletException, IOException {
+        // Sprint 18: un seul instantané des routes pour toute la requête, lu sans verrou
+        RouteRegistry.Snapshot snapshot = routeRegistry.snapshot();
+
+        // Sprint 15: seules les routes du verbe de la requête sont consultées
+        HttpMethod httpMethod = HttpMethod.resolve(req.getMethod());
+        RouteTable routes = httpMethod == null ? null : snapshot.getTable(httpMethod);
+
+        RequestTrace trace = selection.trace;
+        long routingStart = trace == null ? 0L : System.nanoTime();
+        PathMatch pathMatch = new PathMatch(snapshot.getMaxPathVariables());
+        pathMatch.reset(path);
+
+        try {
+            // Sprint 2-bis: Chercher d'abord une correspondance exacte parmi les routes scannées
+            CompiledRoute exactMatch = routes == null ? null : routes.getExact(path);
+            if (routes != null && (exactMatch == null || !selectHandler(exactMatch, pathMatch, req, resp, selection))) {
+                // Sprint 3-ter: Rechercher ensuite une route dynamique avec segments {variable}
+                routes.getDynamicRoutes().match(path, pathMatch,
+                        candidate -> selectHandler(candidate, pathMatch, req, resp, selection));
             }
+        } catch (UnsupportedOperationException unsupported) {
+            throw new ServletException("Type de paramètre non supporté : " + selection.handler, unsupported);
+        } catch (JsonSyntaxException malformed) {
+            // Sprint 14: un corps JSON illisible est une erreur du client, pas une route absente
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, malformed.getMessage());
+            return;
+        }
 
-            // Sprint 6-ter: si aucun @RequestParam, consommer le prochain segment dynamique
-            if (rawValue == null && requestParam == null) {
-                PathVariableValue byOrder = consumeFirstPathVariable(dynamicSegments);
-                if (byOrder != null) {
-                    rawValue = byOrder.value();
-                }
+        if (selection.handler != null) {
+            // Sprint 12: la clé de cache est lue tant que les variables du chemin sont disponibles ;
+            // seuls GET et HEAD passent par le cache, les autres verbes s'exécutent toujours
+            ResponseCache cache = selection.handler.getResponseCache();
+            ResponseCache.Key cacheKey = cache == null || (httpMethod != HttpMethod.GET && httpMethod != HttpMethod.HEAD)
+                    ? null : cache.keyFor(pathMatch, req);
+            if (trace != null) {
+                traceRouting(trace, routingStart, selection);
             }
 
-            if (rawValue == null) {
-                arguments.add(defaultValueFor(paramType));
-                continue;
+            // Sprint 23: une sous-requête de lot n'atteint que les handlers @Batchable
+            if (!selection.handler.isBatchable() && BatchRequest.isSubRequest(req)) {
+                resp.sendError(HttpServletResponse.SC_FORBIDDEN, "Route non disponible dans un lot");
+                return;
             }
 
-            if (rawValue.isEmpty()) {
-                arguments.add(emptyValueFor(paramType));
-                continue;
+            // Sprint 22: limites d'admission vérifiées avant toute exécution
+            AdmissionControl admission = selection.handler.getAdmission();
+            if (admission != null && !admit(admission, selection, resp)) {
+                return;
             }
 
             try {
-                arguments.add(convertParameterValue(rawValue, paramType));
-            } catch (IllegalArgumentException conversionFailure) {
-                return null;
+                // Sprint 9: mode opt-in, le handler s'exécute hors du thread du conteneur
+                if (handlerExecutor != null && req.isAsyncSupported()) {
+                    dispatchToExecutor(selection.handler, selection.arguments, cacheKey, trace, req, resp);
+                } else {
+                    executeHandler(selection.handler, selection.arguments, cacheKey, trace, req, resp);
+                }
+            } finally {
+                // Sprint 22: une exécution asynchrone libère sa place à sa fin (AsyncRequest)
+                if (admission != null && !req.isAsyncStarted()) {
+                    admission.release();
+                }
             }
+            return;
+        }
+        if (trace != null) {
+            traceRouting(trace, routingStart, selection);
         }
 
-        if (!dynamicSegments.isEmpty()) {
-            for (PathVariableValue segment : dynamicSegments) {
-                if (!segment.isUsed()) {
-                    return null;
+        // Sprint 15: le chemin existe pour d'autres verbes : 405 (ou réponse OPTIONS) avec Allow
+        if (routes == null || !routes.matchesPath(path)) {
+            String allow = allowedMethods(snapshot, path);
+            if (allow != null) {
+                resp.setHeader("Allow", allow);
+                if (httpMethod == HttpMethod.OPTIONS) {
+                    resp.setStatus(HttpServletResponse.SC_OK);
+                } else {
+                    resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
                 }
+                return;
             }
         }
 
-        return arguments.toArray();
+        // Sprint 2-bis: Erreur 404 si ni contrôleur ni fichier statique trouvé
+        resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        resp.setContentType("text/plain;charset=UTF-8");
+        resp.getWriter().println("Erreur 404 : " + path + " introuvable.");
     }
 
-    private static List<PathVariableValue> buildPathVariableValues(List<String> names, List<String> values) {
-        List<PathVariableValue> segments = new ArrayList<>();
-        if (values == null || values.isEmpty()) {
-            return segments;
+    /**
+     * Sprint 22: admettre la requête ou répondre 429 (débit dépassé) / 503 (trop d'exécutions
+     * simultanées) avec Retry-After, sans exécuter le handler.
+     */
+    private boolean admit(AdmissionControl admission, HandlerSelection selection, HttpServletResponse resp)
+            throws IOException {
+        AdmissionControl.Decision decision = admission.tryAcquire();
+        if (decision == AdmissionControl.Decision.ADMITTED) {
+            return true;
         }
 
-        int nameCount = names == null ? 0 : names.size();
-        for (int i = 0; i < values.size(); i++) {
-            String segmentName = i < nameCount ? names.get(i) : null;
-            segments.add(new PathVariableValue(segmentName, values.get(i)));
+        boolean overRate = decision == AdmissionControl.Decision.RATE_LIMITED;
+        if (metrics != null) {
+            metrics.forRoute(selection.route.getTemplate()).recordRejection(overRate);
         }
-        return segments;
+        resp.setHeader("Retry-After", Long.toString(admission.retryAfterSeconds(decision)));
+        if (overRate) {
+            resp.sendError(SC_TOO_MANY_REQUESTS, "Trop de requêtes");
+        } else {
+            resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service surchargé");
+        }
+        return false;
     }
 
-    private static PathVariableValue consumePathVariableByName(List<PathVariableValue> segments, String candidate) {
-        if (segments == null || segments.isEmpty() || candidate == null) {
-            return null;
-        }
-        for (PathVariableValue segment : segments) {
-            if (segment.isUsed()) {
-                continue;
-            }
-            if (segment.matches(candidate)) {
-                segment.markUsed();
-                return segment;
-            }
+    /**
+     * Sprint 17: le temps de routage exclut celui du binding, mesuré à part dans selectHandler.
+     */
+    private static void traceRouting(RequestTrace trace, long routingStart, HandlerSelection selection) {
+        long binding = trace.getNanos(RequestTrace.Phase.BINDING);
+        trace.add(RequestTrace.Phase.ROUTING, System.nanoTime() - routingStart - binding);
+        if (selection.handler != null) {
+            trace.setRoute(selection.route.getTemplate(), selection.handler);
         }
-        return null;
     }
 
-    private static PathVariableValue consumeFirstPathVariable(List<PathVariableValue> segments) {
-        if (segments == null || segments.isEmpty()) {
+    /**
+     * Sprint 15: verbes ayant une route pour ce chemin (valeur de l'en-tête Allow), ou
+     * {@code null} si aucun. OPTIONS est toujours accepté sur un chemin existant.
+     */
+    private static String allowedMethods(RouteRegistry.Snapshot snapshot, String path) {
+        StringBuilder allow = new StringBuilder();
+        for (Map.Entry<HttpMethod, RouteTable> table : snapshot.getTables().entrySet()) {
+            if (table.getKey() != HttpMethod.OPTIONS && table.getValue().matchesPath(path)) {
+                allow.append(allow.length() == 0 ? "" : ", ").append(table.getKey().name());
+            }
+        }
+        if (allow.length() == 0) {
             return null;
         }
-        for (PathVariableValue segment : segments) {
-            if (!segment.isUsed()) {
-                segment.markUsed();
-                return segment;
+        return allow.append(", ").append(HttpMethod.OPTIONS.name()).toString();
+    }
+
+    /**
+     * Parcours les handlers associés à une URL et retient le premier dont la signature
+     * est compatible avec les paramètres préparés (requête, réponse, variables dynamiques).
+     */
+    private boolean selectHandler(CompiledRoute route, PathMatch pathVariables,
+                                  HttpServletRequest req, HttpServletResponse resp,
+                                  HandlerSelection selection) {
+        for (HandlerMethod handler : route.getHandlers()) {
+            selection.handler = handler;
+            long bindingStart = selection.trace == null ? 0L : System.nanoTime();
+            Object[] arguments = handler.getBindingPlan().bind(req, resp, pathVariables);
+            if (selection.trace != null) {
+                selection.trace.mark(RequestTrace.Phase.BINDING, bindingStart);
+            }
+            if (arguments != null) {
+                selection.route = route;
+                selection.arguments = arguments;
+                return true;
             }
         }
-        return null;
+
+        selection.handler = null;
+        return false;
     }
 
-    private Object defaultValueFor(Class<?> targetType) {
-        if (!targetType.isPrimitive()) {
-            return null;
-        }
-        if (targetType.equals(boolean.class)) {
-            return Boolean.FALSE;
-        }
-        if (targetType.equals(char.class)) {
-            return Character.valueOf('\0');
-        }
-        if (targetType.equals(byte.class)) {
-            return Byte.valueOf((byte) 0);
+    /**
+     * Handler retenu pour la requête courante et ses arguments déjà convertis.
+     */
+    private static final class HandlerSelection {
+        private CompiledRoute route;
+        private HandlerMethod handler;
+        private Object[] arguments;
+        private RequestTrace trace;
+    }
+
+    private void executeHandler(HandlerMethod handler, Object[] arguments, ResponseCache.Key cacheKey,
+                                RequestTrace trace, HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        Object result = invokeHandler(handler, arguments, cacheKey, trace);
+
+        // Sprint 23: sans mode asynchrone (sous-requête d'un lot), attendre le résultat
+        if (result instanceof CompletionStage && !req.isAsyncSupported()) {
+            result = awaitResult(handler, (CompletionStage<?>) result);
         }
-        if (targetType.equals(short.class)) {
-            return Short.valueOf((short) 0);
+
+        // Sprint 9: un CompletionStage est rendu de manière asynchrone une fois terminé
+        if (result instanceof CompletionStage) {
+            AsyncRequest async = new AsyncRequest(startAsync(handler, req, resp), trace, handler.getAdmission());
+            completeWhenDone(async, handler, (CompletionStage<?>) result);
+            return;
         }
-        if (targetType.equals(int.class)) {
-            return Integer.valueOf(0);
+
+        long renderStart = trace == null ? 0L : System.nanoTime();
+        handleInvocationResult(handler, result, req, resp);
+        if (trace != null) {
+            trace.mark(RequestTrace.Phase.RENDER, renderStart);
         }
-        if (targetType.equals(long.class)) {
-            return Long.valueOf(0L);
+    }
+
+    /**
+     * Sprint 23: attendre un CompletionStage avec le délai propre à la route ou le délai global.
+     */
+    private Object awaitResult(HandlerMethod handler, CompletionStage<?> stage) throws ServletException {
+        long timeout = handler.getAsyncTimeout() >= 0 ? handler.getAsyncTimeout() : asyncTimeout;
+        try {
+            CompletableFuture<?> future = stage.toCompletableFuture();
+            return timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+        } catch (ExecutionException e) {
+            throw new ServletException("Erreur lors de l'invocation du handler : " + handler, e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServletException("Délai d'exécution dépassé : " + handler, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Exécution interrompue : " + handler, e);
         }
-        if (targetType.equals(float.class)) {
-            return Float.valueOf(0F);
+    }
+
+    /**
+     * Sprint 12: servir le résultat en cache d'un handler @Cacheable ; les requêtes concurrentes
+     * sur la même clé n'invoquent le contrôleur qu'une seule fois.
+     */
+    private Object invokeHandler(HandlerMethod handler, Object[] arguments, ResponseCache.Key cacheKey,
+                                 RequestTrace trace) throws ServletException {
+        ResponseCache cache = handler.getResponseCache();
+        if (cache == null || cacheKey == null) {
+            return invokeController(handler, arguments, trace);
         }
-        if (targetType.equals(double.class)) {
-            return Double.valueOf(0D);
+        // Sprint 17: la consultation du cache (et l'invocation éventuelle) compte comme handler
+        long start = trace == null ? 0L : System.nanoTime();
+        try {
+            return cache.get(cacheKey, () -> invokeController(handler, arguments, null));
+        } catch (ServletException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException("Erreur lors de l'invocation du handler : " + handler, e);
+        } finally {
+            if (trace != null) {
+                trace.mark(RequestTrace.Phase.HANDLER, start);
+            }
         }
-        return null;
     }
 
-    private Object emptyValueFor(Class<?> targetType) {
-        if (targetType.equals(String.class)) {
-            return "";
+    private Object invokeController(HandlerMethod handler, Object[] arguments, RequestTrace trace)
+            throws ServletException {
+        try {
+            ControllerProvider provider = handler.getControllerProvider();
+            long checkpoint = trace == null ? 0L : System.nanoTime();
+            Object controllerInstance = provider.acquire();
+            if (trace != null) {
+                checkpoint = trace.mark(RequestTrace.Phase.CONTROLLER, checkpoint);
+            }
+            Object result = null;
+            try {
+                // Sprint 4: invocation via le MethodHandle préparé à l'enregistrement de la route
+                result = handler.getInvoker().invoke(controllerInstance, arguments);
+                return result;
+            } finally {
+                // Une instance (d'un pool) reste réservée tant que le CompletionStage retourné s'exécute
+                if (result instanceof CompletionStage) {
+                    ((CompletionStage<?>) result).whenComplete((value, failure) -> provider.release(controllerInstance));
+                } else {
+                    provider.release(controllerInstance);
+                }
+                if (trace != null) {
+                    trace.mark(RequestTrace.Phase.HANDLER, checkpoint);
+                }
+            }
+        } catch (Exception e) {
+            throw new ServletException("Erreur lors de l'invocation du handler : " + handler, e);
         }
-        return defaultValueFor(targetType);
     }
 
-    private Object convertParameterValue(String value, Class<?> targetType) {
-        if (targetType.equals(String.class)) {
-            return value;
+    /**
+     * Sprint 9: démarrer le mode asynchrone avec le délai propre à la route ou le délai global.
+     */
+    private AsyncContext startAsync(HandlerMethod handler, HttpServletRequest req, HttpServletResponse resp) {
+        AsyncContext context = req.isAsyncStarted() ? req.getAsyncContext() : req.startAsync(req, resp);
+        long timeout = handler.getAsyncTimeout() >= 0 ? handler.getAsyncTimeout() : asyncTimeout;
+        if (timeout >= 0) {
+            context.setTimeout(timeout);
         }
+        return context;
+    }
 
-        if (targetType.equals(int.class) || targetType.equals(Integer.class)) {
-            return Integer.parseInt(value);
-        }
-        if (targetType.equals(long.class) || targetType.equals(Long.class)) {
-            return Long.parseLong(value);
-        }
-        if (targetType.equals(double.class) || targetType.equals(Double.class)) {
-            return Double.parseDouble(value);
-        }
-        if (targetType.equals(float.class) || targetType.equals(Float.class)) {
-            return Float.parseFloat(value);
-        }
-        if (targetType.equals(boolean.class) || targetType.equals(Boolean.class)) {
-            return Boolean.parseBoolean(value);
-        }
-        if (targetType.equals(short.class) || targetType.equals(Short.class)) {
-            return Short.parseShort(value);
-        }
-        if (targetType.equals(byte.class) || targetType.equals(Byte.class)) {
-            return Byte.parseByte(value);
+    private void dispatchToExecutor(HandlerMethod handler, Object[] arguments, ResponseCache.Key cacheKey,
+                                    RequestTrace trace, HttpServletRequest req, HttpServletResponse resp) {
+        AsyncRequest async = new AsyncRequest(startAsync(handler, req, resp), trace, handler.getAdmission());
+        try {
+            handlerExecutor.execute(() -> {
+                boolean pending = false;
+                try {
+                    Object result = invokeHandler(handler, arguments, cacheKey, trace);
+                    if (result instanceof CompletionStage) {
+                        pending = true;
+                        completeWhenDone(async, handler, (CompletionStage<?>) result);
+                    } else {
+                        completeAsync(async, handler, result, null);
+                    }
+                } catch (ServletException e) {
+                    completeAsync(async, handler, null, e);
+                } finally {
+                    // Sprint 22: la place d'exécution est rendue quand le handler a fini, même
+                    // si la requête a expiré entre-temps
+                    if (!pending) {
+                        async.releaseAdmission();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException rejected) {
+            async.releaseAdmission();
+            completeAsync(async, handler, null, rejected);
         }
-        if (targetType.equals(char.class) || targetType.equals(Character.class)) {
-            if (value.length() != 1) {
-                throw new IllegalArgumentException("Impossible de convertir en char : " + value);
-            }
-            return value.charAt(0);
+    }
+
+    /**
+     * Sprint 9: rendre le CompletionStage une fois terminé ; Sprint 22: sa place d'exécution
+     * n'est rendue qu'à ce moment, et non à l'expiration de l'AsyncContext.
+     */
+    private void completeWhenDone(AsyncRequest async, HandlerMethod handler, CompletionStage<?> stage) {
+        stage.whenComplete((value, failure) -> {
+            async.releaseAdmission();
+            completeAsync(async, handler, value, failure);
+        });
+    }
+
+    /**
+     * Sprint 9: rendre le résultat d'une exécution asynchrone, une seule fois, puis terminer
+     * l'AsyncContext (ou le confier au dispatch vers la vue).
+     */
+    private void completeAsync(AsyncRequest async, HandlerMethod handler, Object result, Throwable failure) {
+        if (!async.finish()) {
+            return;
         }
-        if (targetType.isEnum()) {
-            @SuppressWarnings({"unchecked", "rawtypes"})
-            Class<? extends Enum<?>> enumType = (Class<? extends Enum<?>>) targetType.asSubclass(Enum.class);
-            try {
-                return Enum.valueOf((Class) enumType, value);
-            } catch (IllegalArgumentException ex) {
-                for (Enum<?> constant : enumType.getEnumConstants()) {
-                    if (constant.name().equalsIgnoreCase(value)) {
-                        return constant;
+
+        AsyncContext context = async.context;
+        HttpServletRequest req = (HttpServletRequest) context.getRequest();
+        HttpServletResponse resp = (HttpServletResponse) context.getResponse();
+        RequestTrace trace = async.trace;
+        long renderStart = trace == null ? 0L : System.nanoTime();
+        try {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure;
+                if (cause instanceof RejectedExecutionException) {
+                    // Sprint 9: pool saturé, la requête n'a pas été exécutée
+                    if (!resp.isCommitted()) {
+                        resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service surchargé");
+                    }
+                } else {
+                    getServletContext().log("Erreur lors de l'invocation du handler : " + handler, cause);
+                    if (!resp.isCommitted()) {
+                        resp.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                     }
                 }
-                throw ex;
+            } else if (result instanceof ModelView && !resp.isCommitted() && !isTemplateView((ModelView) result)) {
+                context.dispatch(exposeModel((ModelView) result, req));
+                return;
+            } else {
+                handleInvocationResult(handler, result, req, resp);
+            }
+        } catch (Exception e) {
+            getServletContext().log("Erreur lors du rendu asynchrone : " + handler, e);
+        } finally {
+            if (trace != null) {
+                trace.mark(RequestTrace.Phase.RENDER, renderStart);
+                tracer.finish(trace);
             }
         }
+        context.complete();
+    }
 
-        if (targetType.equals(java.math.BigDecimal.class)) {
-            return new java.math.BigDecimal(value);
+    /**
+     * AsyncContext d'une requête, terminé une seule fois (résultat ou délai dépassé).
+     */
+    private final class AsyncRequest implements AsyncListener {
+        private final AsyncContext context;
+        private final RequestTrace trace;
+        private final AdmissionControl admission;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Sprint 17: la trace de la requête la suit hors du thread du conteneur, qui en
+         * reprend une nouvelle pour sa requête suivante.
+         */
+        AsyncRequest(AsyncContext context, RequestTrace trace, AdmissionControl admission) {
+            this.context = context;
+            this.trace = trace;
+            this.admission = admission;
+            if (trace != null) {
+                tracer.detach();
+            }
+            context.addListener(this);
         }
-        if (targetType.equals(java.math.BigInteger.class)) {
-            return new java.math.BigInteger(value);
+
+        boolean finish() {
+            return finished.compareAndSet(false, true);
         }
-        if (targetType.equals(java.util.UUID.class)) {
-            return java.util.UUID.fromString(value);
+
+        /**
+         * Sprint 22: rendre la place d'exécution une seule fois, quand l'exécution du handler
+         * se termine (retour, exception ou fin de son CompletionStage). L'expiration ou la fin
+         * de l'AsyncContext ne la rend pas : un handler lent garde sa place jusqu'au bout.
+         */
+        void releaseAdmission() {
+            if (admission != null && released.compareAndSet(false, true)) {
+                admission.release();
+            }
         }
 
-        if (targetType.equals(java.time.LocalDate.class)) {
-            return java.time.LocalDate.parse(value);
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            if (!finish()) {
+                return;
+            }
+            HttpServletResponse resp = (HttpServletResponse) context.getResponse();
+            if (!resp.isCommitted()) {
+                resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Délai d'exécution dépassé");
+            }
+            if (trace != null) {
+                tracer.finish(trace);
+            }
+            context.complete();
         }
-        if (targetType.equals(java.time.LocalDateTime.class)) {
-            return java.time.LocalDateTime.parse(value);
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finished.set(true);
         }
-        if (targetType.equals(java.time.LocalTime.class)) {
-            return java.time.LocalTime.parse(value);
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finished.set(true);
         }
-        if (targetType.equals(java.time.OffsetDateTime.class)) {
-            return java.time.OffsetDateTime.parse(value);
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Nothing to do
         }
-        if (targetType.equals(java.time.Instant.class)) {
-            return java.time.Instant.parse(value);
+    }
+
+    private void handleInvocationResult(HandlerMethod handler, Object result,
+                                        HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        if (result == null || resp.isCommitted()) {
+            return;
         }
-        if (targetType.equals(java.util.Date.class)) {
+
+        // Sprint 20: corps compressé si la route et le client le permettent
+        CompressingResponse compressing = startCompression(handler, result, req, resp);
+        if (compressing != null) {
             try {
-                return java.util.Date.from(java.time.Instant.parse(value));
-            } catch (java.time.format.DateTimeParseException ignored) {
-                java.time.LocalDate localDate = java.time.LocalDate.parse(value);
-                return java.util.Date.from(localDate.atStartOfDay(java.time.ZoneId.systemDefault()).toInstant());
+                writeResult(handler, result, req, compressing);
+                compressing.finish();
+            } finally {
+                compressing.release();
             }
+        } else {
+            writeResult(handler, result, req, resp);
         }
-
-        throw new UnsupportedOperationException("Type non supporté : " + targetType.getName());
     }
 
-    private static final class PathVariableValue {
-        private final String name;
-        private final String value;
-        private boolean used;
-
-        PathVariableValue(String name, String value) {
-            this.name = name == null ? null : name.trim();
-            this.value = value;
-        }
-
-        boolean matches(String candidate) {
-            if (candidate == null || name == null) {
-                return false;
+    private void writeResult(HandlerMethod handler, Object result, HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        String produces = handler.getProduces();
+        if (result instanceof ModelView && isTemplateView((ModelView) result)) {
+            // Sprint 19: rendu direct du modèle, sans attributs de requête ni forward
+            renderTemplate((ModelView) result, resp);
+        } else if (result instanceof ModelView) {
+            String viewPath = exposeModel((ModelView) result, req);
+            RequestDispatcher dispatcher = req.getRequestDispatcher(viewPath);
+            dispatcher.forward(req, resp);
+        } else if (result instanceof String) {
+            // Sprint 13: un String déclaré "produces" (JSON déjà construit...) est écrit tel quel
+            // Sprint 21: encodé une fois en UTF-8, avec Content-Length, octets d'un résultat constant réutilisés
+            handler.getStringResultWriter().write((String) result, resp);
+        } else if (StreamingResults.isStreamable(result)) {
+            // Sprint 10: byte[], InputStream, Path et Iterator/Stream écrits directement dans la réponse
+            if (produces != null) {
+                resp.setContentType(produces);
             }
-            return name.equalsIgnoreCase(candidate.trim());
+            StreamingResults.write(result, req, resp);
+        } else {
+            // Sprint 13: objets, records, Map et collections sérialisés en JSON
+            writeJson(handler, result, req, resp);
         }
+    }
 
-        boolean isUsed() {
-            return used;
+    /**
+     * Sprint 13: sérialiser le résultat en JSON si la route le déclare ("produces") ou,
+     * à défaut, si l'en-tête Accept l'autorise ; sinon répondre 406.
+     */
+    private void writeJson(HandlerMethod handler, Object result, HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+        String produces = handler.getProduces();
+        if (produces != null && !Json.isJsonMediaType(produces)) {
+            throw new ServletException("Type de réponse non supporté (" + produces + ") pour "
+                    + result.getClass().getName() + " : " + handler);
         }
-
-        void markUsed() {
-            this.used = true;
+        if (produces == null && !Json.isAccepted(req.getHeader("Accept"))) {
+            resp.sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+            return;
         }
 
-        String value() {
-            return value;
-        }
+        resp.setContentType(produces == null ? Json.CONTENT_TYPE : StringResultWriter.withCharset(produces));
+        Json.write(result, resp.getOutputStream());
     }
 
-    private void executeHandler(Method handler, Object[] arguments,
-                                HttpServletRequest req, HttpServletResponse resp)
-            throws ServletException, IOException {
-        try {
-            Class<?> controllerClass = handler.getDeclaringClass();
-            Object controllerInstance = controllerClass.getDeclaredConstructor().newInstance();
-            handler.setAccessible(true);
-            Object result = handler.invoke(controllerInstance, arguments);
-            handleInvocationResult(result, req, resp);
-        } catch (Exception e) {
-            throw new ServletException("Erreur lors de l'invocation du handler : " + handler, e);
+    /**
+     * Sprint 20: envelopper la réponse pour la compresser, ou retourner null : compression
+     * désactivée pour la route, client sans gzip ni deflate, requête HEAD ou Range, fichier
+     * (Path, envoyé tel quel) ou vue JSP (rendue par le conteneur).
+     */
+    private CompressingResponse startCompression(HandlerMethod handler, Object result,
+                                                 HttpServletRequest req, HttpServletResponse resp) {
+        Compress compress = handler.getCompress();
+        if (compress == null ? !compressByDefault : !compress.value()) {
+            return null;
+        }
+        if (result instanceof Path || (result instanceof ModelView && !isTemplateView((ModelView) result))
+                || "HEAD".equals(req.getMethod()) || req.getHeader("Range") != null
+                || resp.containsHeader("Content-Encoding")) {
+            return null;
         }
+        ResponseCompression.Encoding encoding = ResponseCompression.negotiate(req.getHeader("Accept-Encoding"));
+        return encoding == null ? null : compression.wrap(resp, encoding, compress == null ? -1 : compress.minSize());
     }
 
-    private void handleInvocationResult(Object result, HttpServletRequest req, HttpServletResponse resp)
-            throws ServletException, IOException {
-        if (result instanceof ModelView && !resp.isCommitted()) {
-            ModelView modelView = (ModelView) result;
-            String viewPath = modelView.getVue();
+    private boolean isTemplateView(ModelView modelView) {
+        return templates != null && modelView.getVue() != null && templates.handles(modelView.getVue());
+    }
 
-            if (viewPath == null || viewPath.isBlank()) {
-                throw new ServletException("ModelView.getVue() retourne null ou vide");
-            }
+    /**
+     * Sprint 19: rendre la vue compilée (et mise en cache) avec les données du ModelView.
+     */
+    private void renderTemplate(ModelView modelView, HttpServletResponse resp) throws ServletException, IOException {
+        Template template;
+        try {
+            template = templates.getTemplate(modelView.getVue().trim());
+        } catch (TemplateException e) {
+            throw new ServletException(e.getMessage(), e);
+        }
+        resp.setContentType(TemplateEngine.CONTENT_TYPE);
+        template.render(modelView.getData(), resp.getOutputStream());
+    }
 
-            Map<String, Object> data = modelView.getData();
-            for (Map.Entry<String, Object> entry : data.entrySet()) {
-                req.setAttribute(entry.getKey(), entry.getValue());
-            }
+    /**
+     * Sprint 5: transférer les données du ModelView dans les attributs de la requête
+     * et retourner le chemin de la vue.
+     */
+    private String exposeModel(ModelView modelView, HttpServletRequest req) throws ServletException {
+        String viewPath = modelView.getVue();
+        if (viewPath == null || viewPath.isBlank()) {
+            throw new ServletException("ModelView.getVue() retourne null ou vide");
+        }
 
-            RequestDispatcher dispatcher = req.getRequestDispatcher(viewPath);
-            dispatcher.forward(req, resp);
-        } else if (result instanceof String && !resp.isCommitted()) {
-            resp.setContentType("text/plain;charset=UTF-8");
-            resp.getWriter().print(result);
+        Map<String, Object> data = modelView.getData();
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            req.setAttribute(entry.getKey(), entry.getValue());
         }
+        return viewPath;
     }
 }
@@ -0,0 +1,60 @@
+package com.framework.Servlets;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used to run handlers off the container threads when {@code async-execution} is enabled,
+ * and the sub-requests of a batch.
+ */
+final class HandlerExecutors {
+
+    private HandlerExecutors() {
+        // Utility class
+    }
+
+    /**
+     * One virtual thread per task when the JVM provides them (Java 21+), {@code null} otherwise.
+     * Resolved reflectively so that the framework keeps compiling for Java 17.
+     */
+    static ExecutorService virtualThreads() {
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException unavailable) {
+            return null;
+        }
+    }
+
+    /**
+     * Bounded pool of platform daemon threads, used when virtual threads are not available.
+     * At most {@code size} tasks wait for a thread.
+     */
+    static ExecutorService boundedPool(int size) {
+        return boundedPool(size, size, "framework-handler-");
+    }
+
+    /**
+     * Bounded pool of platform daemon threads named {@code namePrefix} followed by a counter.
+     * At most {@code queueCapacity} tasks wait for a thread; further submissions are rejected
+     * with {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    static ExecutorService boundedPool(int size, int queueCapacity, String namePrefix) {
+        int threads = Math.max(1, size);
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), factory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,257 @@
+package com.framework.Servlets;
+
+import com.framework.Scanners.ScanControllers;
+import com.framework.annotation.Controller;
+import com.framework.handler.RouteRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Development mode watching the class directories of the controller packages. Recompiled
+ * classes are loaded again in a throw-away class loader and their routes replace the previous
+ * ones in a single {@link RouteRegistry} commit; requests in flight keep the snapshot they
+ * started with.
+ * <p>
+ * Only the changed classes are reloaded: other application classes keep their current
+ * version, and a reloaded controller cannot use package-private members of classes it shares
+ * a package with. Controllers packaged in jars are not watched.
+ */
+final class RouteReloader {
+
+    /** A compilation writes several class files in a row: wait for quiet before reloading. */
+    private static final long QUIET_PERIOD_MS = 200;
+
+    private final RouteRegistry registry;
+    private final List<String> packages;
+    private final ClassLoader parent;
+    private final Consumer<String> log;
+    private final Map<WatchKey, WatchedDirectory> directories = new ConcurrentHashMap<>();
+    private WatchService watchService;
+    private Thread thread;
+
+    RouteReloader(RouteRegistry registry, List<String> packages, ClassLoader parent, Consumer<String> log) {
+        this.registry = registry;
+        this.packages = packages;
+        this.parent = parent;
+        this.log = log;
+    }
+
+    void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        for (String packageName : packages) {
+            Enumeration<URL> resources = parent.getResources(packageName.replace('.', '/'));
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if (!"file".equals(resource.getProtocol())) {
+                    continue;
+                }
+                Path directory = toPath(resource);
+                Path root = directory;
+                for (int i = packageName.split("\\.").length; i > 0 && root != null; i--) {
+                    root = root.getParent();
+                }
+                if (root != null) {
+                    registerTree(directory, root);
+                }
+            }
+        }
+
+        if (directories.isEmpty()) {
+            log.accept("Rechargement des routes : aucun répertoire de classes pour " + packages);
+        }
+        thread = new Thread(this::watch, "framework-route-reload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            log.accept("Arrêt de la surveillance des contrôleurs : " + e);
+        }
+    }
+
+    private static Path toPath(URL resource) throws IOException {
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Répertoire de classes invalide : " + resource, e);
+        }
+    }
+
+    private void registerTree(Path directory, Path root) throws IOException {
+        try (Stream<Path> tree = Files.walk(directory)) {
+            tree.filter(Files::isDirectory).forEach(child -> {
+                try {
+                    WatchKey key = child.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                    directories.put(key, new WatchedDirectory(child, root));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Map<String, Path> changed = new LinkedHashMap<>();
+                collect(watchService.take(), changed);
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_PERIOD_MS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+                if (!changed.isEmpty()) {
+                    reload(changed);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException stopped) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Record the top-level class names whose class files changed, with their classes root.
+     */
+    private void collect(WatchKey key, Map<String, Path> changed) {
+        WatchedDirectory watched = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (watched == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            Path child = watched.directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+                try {
+                    registerTree(child, watched.root);
+                } catch (IOException e) {
+                    log.accept("Rechargement des routes : répertoire non surveillé " + child + " (" + e + ")");
+                }
+                continue;
+            }
+
+            String relative = watched.root.relativize(child).toString();
+            if (!relative.endsWith(".class")) {
+                continue;
+            }
+            String className = relative.substring(0, relative.length() - ".class".length())
+                    .replace(child.getFileSystem().getSeparator(), ".");
+            int nested = className.indexOf('$');
+            changed.put(nested < 0 ? className : className.substring(0, nested), watched.root);
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    /**
+     * Replace the routes of the changed controllers in one commit. A class that cannot be
+     * loaded keeps its previous routes.
+     */
+    private void reload(Map<String, Path> changed) {
+        ReloadingClassLoader loader = new ReloadingClassLoader(changed, parent);
+        RouteRegistry.Batch batch = registry.batch();
+        for (Map.Entry<String, Path> entry : changed.entrySet()) {
+            String className = entry.getKey();
+            Path classFile = entry.getValue().resolve(className.replace('.', '/') + ".class");
+            Class<?> reloaded = null;
+            if (Files.exists(classFile)) {
+                try {
+                    reloaded = loader.loadClass(className);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.accept("Rechargement ignoré pour " + className + " : " + e);
+                    continue;
+                }
+            }
+
+            ScanControllers.invalidate(className);
+            batch.removeController(className);
+            if (reloaded != null && reloaded.isAnnotationPresent(Controller.class)) {
+                batch.addController(reloaded);
+            }
+        }
+
+        try {
+            RouteRegistry.Snapshot snapshot = batch.commit();
+            log.accept("Routes rechargées (" + changed.keySet() + ") : " + snapshot.getRoutes().keySet());
+        } catch (RuntimeException e) {
+            log.accept("Rechargement des routes annulé, routes précédentes conservées : " + e);
+        }
+    }
+
+    private static final class WatchedDirectory {
+        private final Path directory;
+        private final Path root;
+
+        WatchedDirectory(Path directory, Path root) {
+            this.directory = directory;
+            this.root = root;
+        }
+    }
+
+    /**
+     * Child-first loader for the changed top-level classes and their nested classes; every
+     * other class comes from the application class loader.
+     */
+    private static final class ReloadingClassLoader extends ClassLoader {
+        private final Map<String, Path> roots;
+
+        ReloadingClassLoader(Map<String, Path> roots, ClassLoader parent) {
+            super("framework-route-reload", parent);
+            this.roots = roots;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            int nested = name.indexOf('$');
+            Path root = roots.get(nested < 0 ? name : name.substring(0, nested));
+            if (root == null) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    try {
+                        byte[] bytes = Files.readAllBytes(root.resolve(name.replace('.', '/') + ".class"));
+                        type = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(type);
+                }
+                return type;
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.framework.admission;
+
+import com.framework.annotation.Limit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission of the requests of a handler, as declared by {@link Limit}: a token bucket for
+ * the rate and a bulkhead for the concurrency. Every admitted request must be
+ * {@linkplain #release() released} once its execution is over.
+ */
+public final class AdmissionControl {
+
+    /**
+     * Outcome of {@link #tryAcquire()}.
+     */
+    public enum Decision {
+        ADMITTED,
+        /** Over the rate: 429 Too Many Requests. */
+        RATE_LIMITED,
+        /** Over the concurrency: 503 Service Unavailable. */
+        OVERLOADED
+    }
+
+    private static final ClassValue<AdmissionControl> CONTROLLER_LIMITS = new ClassValue<>() {
+        @Override
+        protected AdmissionControl computeValue(Class<?> type) {
+            return of(type.getAnnotation(Limit.class));
+        }
+    };
+
+    private final TokenBucket bucket;
+    private final Bulkhead bulkhead;
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder overloaded = new LongAdder();
+
+    private AdmissionControl(TokenBucket bucket, Bulkhead bulkhead) {
+        this.bucket = bucket;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Limits of {@code handler}: its own {@link Limit}, else the one of its controller, shared
+     * by all the handlers of that class; {@code null} when neither is declared.
+     */
+    public static AdmissionControl forHandler(Method handler) {
+        Limit limit = handler.getAnnotation(Limit.class);
+        return limit != null ? of(limit) : CONTROLLER_LIMITS.get(handler.getDeclaringClass());
+    }
+
+    /**
+     * Limits declared by {@code limit}, or {@code null} when it sets none.
+     */
+    public static AdmissionControl of(Limit limit) {
+        if (limit == null) {
+            return null;
+        }
+        TokenBucket bucket = null;
+        if (limit.rate() > 0) {
+            int burst = limit.burst() > 0 ? limit.burst() : (int) Math.max(1, Math.ceil(limit.rate()));
+            bucket = new TokenBucket(limit.rate(), burst);
+        }
+        Bulkhead bulkhead = limit.concurrency() > 0
+                ? new Bulkhead(limit.concurrency(), limit.queue(), limit.queueTimeout()) : null;
+        return bucket == null && bulkhead == null ? null : new AdmissionControl(bucket, bulkhead);
+    }
+
+    /**
+     * Admit the request, waiting for an execution slot if the queue allows it.
+     */
+    public Decision tryAcquire() {
+        if (bucket != null && bucket.tryTake() > 0) {
+            rateLimited.increment();
+            return Decision.RATE_LIMITED;
+        }
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            if (bucket != null) {
+                bucket.refund();
+            }
+            overloaded.increment();
+            return Decision.OVERLOADED;
+        }
+        return Decision.ADMITTED;
+    }
+
+    /**
+     * End of the execution of an admitted request.
+     */
+    public void release() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Seconds a rejected client should wait before retrying (value of {@code Retry-After}).
+     */
+    public long retryAfterSeconds(Decision decision) {
+        if (decision == Decision.RATE_LIMITED && bucket != null) {
+            long nanos = bucket.nanosUntilToken();
+            return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+        return 1L;
+    }
+
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getOverloaded() {
+        return overloaded.sum();
+    }
+
+    /**
+     * Executions in progress, 0 without concurrency limit.
+     */
+    public int getInFlight() {
+        return bulkhead == null ? 0 : bulkhead.getInFlight();
+    }
+
+    @Override
+    public String toString() {
+        return "AdmissionControl{inFlight=" + getInFlight() + ", rateLimited=" + getRateLimited()
+                + ", overloaded=" + getOverloaded() + "}";
+    }
+}
@@ -0,0 +1,85 @@
+package com.framework.admission;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * At most {@code maxConcurrent} executions at once, counted by compare-and-set. When they are
+ * all taken, up to {@code maxWaiting} callers park for a slot during {@code maxWaitNanos};
+ * every release wakes them up to race for it.
+ */
+final class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    Bulkhead(int maxConcurrent, int maxWaiting, long maxWaitMillis) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = Math.max(0, maxWaiting);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, maxWaitMillis));
+    }
+
+    boolean tryAcquire() {
+        if (tryTake()) {
+            return true;
+        }
+        if (maxWaiting == 0 || maxWaitNanos == 0) {
+            return false;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+
+        Thread current = Thread.currentThread();
+        // Queued before trying again, so that a release in between is not missed
+        waiters.add(current);
+        try {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (!tryTake()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || current.isInterrupted()) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            return true;
+        } finally {
+            waiters.remove(current);
+            waiting.decrementAndGet();
+        }
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+        for (Thread waiter : waiters) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    int getWaiting() {
+        return waiting.get();
+    }
+
+    private boolean tryTake() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.framework.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket refilled at {@code rate} tokens per second up to {@code burst} tokens.
+ * <p>
+ * The bucket is kept as a single timestamp, the instant at which it would be full again
+ * (the "theoretical arrival time" of GCRA): taking a token pushes it one emission interval
+ * further, and the request is refused when that would put it more than {@code burst}
+ * intervals ahead of now. One compare-and-set per request, no lock, no refill thread.
+ */
+final class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong fullAt;
+
+    TokenBucket(double rate, int burst) {
+        this.interval = Math.max(1L, Math.round(1_000_000_000d / rate));
+        this.tolerance = interval * Math.max(1, burst);
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Take a token: 0 when granted, otherwise the nanoseconds before one is available.
+     */
+    long tryTake() {
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long ahead = next - now;
+            if (ahead > tolerance) {
+                return ahead - tolerance;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Nanoseconds before a token is available, 0 when one is.
+     */
+    long nanosUntilToken() {
+        long now = System.nanoTime();
+        return Math.max(0L, Math.max(fullAt.get(), now) + interval - now - tolerance);
+    }
+
+    /**
+     * Give back a token taken for a request that was not executed.
+     */
+    void refund() {
+        fullAt.addAndGet(-interval);
+    }
+}
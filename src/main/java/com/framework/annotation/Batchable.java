@@ -0,0 +1,20 @@
+package com.framework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a {@link HandlePath} method, or every handler of a {@link Controller} when placed on
+ * the class, reachable from the batch endpoint ({@code batch-path}); other handlers answer
+ * {@code 403} to a sub-request.
+ * <p>
+ * Sub-requests are routed inside the servlet: the container checks its security constraints
+ * and runs its filters against the batch URL only. A batchable handler must therefore do its
+ * own authorization; {@code isUserInRole} only knows the roles listed in {@code batch-roles}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Batchable {
+}
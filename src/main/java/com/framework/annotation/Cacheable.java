@@ -0,0 +1,40 @@
+package com.framework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the result of a {@link HandlePath} method. Only {@code String}, {@code ModelView}
+ * and {@code byte[]} results are stored; the controller is neither instantiated nor invoked
+ * while a cached result is fresh.
+ * <p>
+ * Only GET and HEAD requests are served from and stored in the cache. Other verbs reaching
+ * the same handler (POST, PUT, DELETE, PATCH...) always execute it, as their side effects
+ * and request body are not part of the cache key.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+
+    /**
+     * Time to live of a cached result, in milliseconds.
+     */
+    long ttl() default 60_000;
+
+    /**
+     * Maximum number of results kept for the handler; the least recently used are evicted.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * Whether the values of the {variable} path segments are part of the cache key.
+     */
+    boolean pathVariables() default true;
+
+    /**
+     * Names of the request parameters that are part of the cache key.
+     */
+    String[] params() default {};
+}
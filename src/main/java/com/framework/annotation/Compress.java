@@ -0,0 +1,27 @@
+package com.framework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the {@code compression} init parameter for the responses of a
+ * {@link HandlePath} method: {@code @Compress} compresses them even when compression is off,
+ * {@code @Compress(false)} never compresses them.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Compress {
+
+    /**
+     * Whether the responses of this handler are compressed.
+     */
+    boolean value() default true;
+
+    /**
+     * Smallest body compressed, in bytes; a negative value falls back to the
+     * {@code compression-min-size} init parameter.
+     */
+    int minSize() default -1;
+}
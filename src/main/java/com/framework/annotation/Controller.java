@@ -9,4 +9,15 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Controller {
   String value() default "";
-}
\ No newline at end of file
+
+  /**
+   * Lifecycle of the controller instances, see {@link Scope}.
+   */
+  Scope scope() default Scope.AUTO;
+
+  /**
+   * Maximum number of idle instances kept when {@link #scope()} is {@link Scope#POOLED};
+   * it does not limit the instances in use at once.
+   */
+  int poolSize() default 16;
+}
@@ -9,4 +9,25 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface HandlePath {
     String value() default "/";
-}
\ No newline at end of file
+
+    /**
+     * Verbs served by this handler; empty means every verb but {@code OPTIONS}, which the
+     * framework answers with an {@code Allow} header. A {@code GET} handler also answers
+     * {@code HEAD} requests, without body.
+     */
+    HttpMethod[] method() default {};
+
+    /**
+     * Timeout in milliseconds of an asynchronous execution of this handler (a
+     * {@code CompletionStage} result or the {@code async-execution} mode).
+     * A negative value falls back to the {@code async-timeout} init parameter.
+     */
+    long timeout() default -1;
+
+    /**
+     * Media type of the response. {@code "application/json"} serializes the returned object
+     * (record, POJO, Map, collection) as JSON; a returned {@code String} is then written as is.
+     * When empty, objects are serialized as JSON if the {@code Accept} header allows it.
+     */
+    String produces() default "";
+}
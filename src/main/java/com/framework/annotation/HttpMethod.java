@@ -0,0 +1,35 @@
+package com.framework.annotation;
+
+/**
+ * HTTP verbs a {@link HandlePath} method can be restricted to.
+ */
+public enum HttpMethod {
+    GET, POST, PUT, DELETE, PATCH, HEAD, OPTIONS;
+
+    /**
+     * Verb of a request method name, or {@code null} when the framework does not route it.
+     */
+    public static HttpMethod resolve(String name) {
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "GET":
+                return GET;
+            case "POST":
+                return POST;
+            case "PUT":
+                return PUT;
+            case "DELETE":
+                return DELETE;
+            case "PATCH":
+                return PATCH;
+            case "HEAD":
+                return HEAD;
+            case "OPTIONS":
+                return OPTIONS;
+            default:
+                return null;
+        }
+    }
+}
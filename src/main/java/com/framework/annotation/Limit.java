@@ -0,0 +1,43 @@
+package com.framework.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Admission limits of a {@link HandlePath} method, or of every handler of a {@link Controller}
+ * (shared by them) when placed on the class; a method annotation replaces the class one.
+ * Requests over the rate are answered {@code 429}, requests over the concurrency (once the
+ * wait queue is full or the wait expired) {@code 503}, both with {@code Retry-After}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Limit {
+
+    /**
+     * Maximum number of concurrent executions; zero or negative for no limit.
+     */
+    int concurrency() default -1;
+
+    /**
+     * Number of requests allowed to wait for an execution slot when {@link #concurrency()}
+     * is reached; zero rejects them at once.
+     */
+    int queue() default 0;
+
+    /**
+     * Longest wait for an execution slot, in milliseconds.
+     */
+    long queueTimeout() default 50;
+
+    /**
+     * Sustained rate, in requests per second; zero or negative for no limit.
+     */
+    double rate() default -1;
+
+    /**
+     * Requests allowed at once above the sustained rate; by default one second worth of it.
+     */
+    int burst() default -1;
+}
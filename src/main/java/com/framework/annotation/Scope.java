@@ -0,0 +1,27 @@
+package com.framework.annotation;
+
+/**
+ * Lifecycle of the controller instances used to serve a {@link Controller}'s handlers.
+ */
+public enum Scope {
+    /**
+     * {@link #SINGLETON} when every instance field of the controller is final and of an
+     * immutable type (primitive, String, enum...), {@link #PROTOTYPE} otherwise.
+     */
+    AUTO,
+    /**
+     * One shared instance for every request; the controller must be thread-safe.
+     */
+    SINGLETON,
+    /**
+     * A new instance per request.
+     */
+    PROTOTYPE,
+    /**
+     * Instances reused across requests: one is borrowed per request and handed back after the
+     * handler completes, and up to {@link Controller#poolSize()} idle ones are kept. This is a
+     * cache of idle instances, not a bound on live ones: under load, missing instances are
+     * created; bound the concurrency with {@link Limit} when that matters.
+     */
+    POOLED
+}
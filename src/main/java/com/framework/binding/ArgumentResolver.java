@@ -0,0 +1,35 @@
+package com.framework.binding;
+
+import com.framework.Scanners.PathMatch;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Produces the value of a single handler parameter. Resolvers are built once per handler
+ * by {@link BindingPlan} and must not perform any reflection at request time.
+ */
+@FunctionalInterface
+public interface ArgumentResolver {
+
+    /**
+     * Returned when the raw value cannot be converted, meaning the handler does not match.
+     */
+    Object NO_MATCH = new Object() {
+        @Override
+        public String toString() {
+            return "NO_MATCH";
+        }
+    };
+
+    Object resolve(HttpServletRequest req, HttpServletResponse resp, PathMatch pathVariables);
+
+    /**
+     * Whether {@link #resolve} would produce a value, decided without throwing nor allocating.
+     * Used to pick among overloaded handlers before any argument is built; the default
+     * defers the decision to {@code resolve} returning {@link #NO_MATCH}.
+     */
+    default boolean accepts(HttpServletRequest req, PathMatch pathVariables) {
+        return true;
+    }
+}
@@ -0,0 +1,395 @@
+package com.framework.binding;
+
+import com.framework.Scanners.PathMatch;
+import com.framework.Scanners.UrlDetails;
+import com.framework.annotation.RequestParam;
+import com.framework.json.Json;
+import com.framework.json.JsonReader;
+import com.framework.json.JsonSyntaxException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.List;
+
+/**
+ * Immutable argument binding plan compiled once per handler method.
+ * <p>
+ * Every decision that only depends on the handler signature and the route template
+ * (annotations, candidate names, path variable indexes, converter) is taken here, so that
+ * {@link #bind} is a plain loop over pre-built {@link ArgumentResolver}s.
+ * Path variables that cannot be claimed by name are handed out positionally at request time,
+ * in order, to the parameters without {@link RequestParam} whose request parameter is absent.
+ * Record and POJO parameters are bound from the form fields or the JSON body through an
+ * {@link ObjectBinder}.
+ */
+public final class BindingPlan {
+
+    private static final ArgumentResolver REQUEST = (req, resp, pathVariables) -> req;
+    private static final ArgumentResolver RESPONSE = (req, resp, pathVariables) -> resp;
+
+    /** Request attribute holding the JSON body once parsed, whatever its type. */
+    private static final String BODY_ATTRIBUTE = "framework.body";
+    /** Stored under {@link #BODY_ATTRIBUTE} when the body could not be converted. */
+    private static final Object UNBOUND_BODY = new Object();
+
+    private final Method handler;
+    private final ArgumentResolver[] resolvers;
+    /** Resolvers falling back to the next free path variable, {@code null} for the others. */
+    private final ParameterResolver[] positional;
+    /** Indexes of the path variables not claimed by name, in template order. */
+    private final int[] freeVariables;
+    private final boolean matchable;
+
+    private BindingPlan(Method handler, ArgumentResolver[] resolvers, ParameterResolver[] positional,
+                        int[] freeVariables, boolean matchable) {
+        this.handler = handler;
+        this.resolvers = resolvers;
+        this.positional = positional;
+        this.freeVariables = freeVariables;
+        this.matchable = matchable;
+    }
+
+    /**
+     * Compile the plan of {@code handler} for the variables exposed by {@code route}.
+     */
+    public static BindingPlan compile(UrlDetails route, Method handler) {
+        return compile(route, handler, ConverterRegistry.getDefault());
+    }
+
+    /**
+     * Compile the plan, resolving parameter converters from {@code converters}.
+     */
+    public static BindingPlan compile(UrlDetails route, Method handler, ConverterRegistry converters) {
+        List<String> variableNames = route.getParameterNames();
+        boolean[] claimed = new boolean[variableNames.size()];
+        Parameter[] parameters = handler.getParameters();
+        ArgumentResolver[] resolvers = new ArgumentResolver[parameters.length];
+        ParameterResolver[] positional = new ParameterResolver[parameters.length];
+        int positionalCount = 0;
+
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            Class<?> paramType = parameter.getType();
+
+            if (HttpServletRequest.class.isAssignableFrom(paramType)) {
+                resolvers[i] = REQUEST;
+                continue;
+            }
+            if (HttpServletResponse.class.isAssignableFrom(paramType)) {
+                resolvers[i] = RESPONSE;
+                continue;
+            }
+
+            // Sprint 6-bis: associer un nom explicite via @RequestParam
+            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+            String annotatedName = null;
+            if (requestParam != null && requestParam.value() != null && !requestParam.value().isBlank()) {
+                annotatedName = requestParam.value().trim();
+            }
+
+            // Sprint 14: objets et records construits depuis le formulaire ou le corps JSON
+            if (!converters.supports(paramType) && ObjectBinder.isBindable(paramType)) {
+                resolvers[i] = new BodyResolver(converters.binderFor(paramType),
+                        annotatedName == null ? "" : annotatedName + ".");
+                continue;
+            }
+
+            String paramName = parameter.isNamePresent() ? parameter.getName() : null;
+            String[] candidateNames = candidateNames(annotatedName, paramName);
+
+            // Sprint 6-ter: privilégier la correspondance par nom sur les segments d'URL
+            int variableIndex = claimByName(variableNames, claimed, candidateNames);
+            if (variableIndex < 0 && requestParam == null) {
+                // Sprint 6-ter: sans @RequestParam, consommer le prochain segment dynamique
+                // libre, à chaque requête, si le paramètre de requête est absent
+                positional[i] = new ParameterResolver(paramType, converters, candidateNames, -1);
+                resolvers[i] = positional[i];
+                positionalCount++;
+            } else if (variableIndex >= 0) {
+                resolvers[i] = new ParameterResolver(paramType, converters, new String[0], variableIndex);
+            } else {
+                resolvers[i] = new ParameterResolver(paramType, converters, candidateNames, -1);
+            }
+        }
+
+        int freeCount = 0;
+        for (boolean used : claimed) {
+            if (!used) {
+                freeCount++;
+            }
+        }
+        int[] freeVariables = new int[freeCount];
+        for (int i = 0, next = 0; i < claimed.length; i++) {
+            if (!claimed[i]) {
+                freeVariables[next++] = i;
+            }
+        }
+
+        // Un segment libre qu'aucun paramètre ne peut consommer écarte toujours la surcharge
+        boolean matchable = freeCount <= positionalCount;
+        return new BindingPlan(handler, resolvers, positional, freeVariables, matchable);
+    }
+
+    public Method getHandler() {
+        return handler;
+    }
+
+    public int getParameterCount() {
+        return resolvers.length;
+    }
+
+    /**
+     * Whether every path variable of the route can be consumed by a parameter of the handler.
+     */
+    public boolean isMatchable() {
+        return matchable;
+    }
+
+    /**
+     * Whether the request fits the handler signature: every path variable is consumed and
+     * every raw value passes the format check of its converter. Never throws nor allocates,
+     * so overloads can be tried in turn cheaply.
+     */
+    public boolean accepts(HttpServletRequest req, PathMatch pathVariables) {
+        if (!matchable) {
+            return false;
+        }
+        int nextFree = 0;
+        for (int i = 0; i < resolvers.length; i++) {
+            ParameterResolver fallback = positional[i];
+            if (fallback == null) {
+                if (!resolvers[i].accepts(req, pathVariables)) {
+                    return false;
+                }
+                continue;
+            }
+            String rawValue = fallback.parameterValue(req);
+            int variableIndex = rawValue == null && nextFree < freeVariables.length ? freeVariables[nextFree++] : -1;
+            if (!fallback.accepts(rawValue, pathVariables, variableIndex)) {
+                return false;
+            }
+        }
+        // Sprint 6-ter: un segment dynamique non consommé écarte la surcharge
+        return nextFree == freeVariables.length;
+    }
+
+    /**
+     * Resolve the handler arguments, or return {@code null} when the request does not fit
+     * the handler signature.
+     */
+    public Object[] bind(HttpServletRequest req, HttpServletResponse resp, PathMatch pathVariables) {
+        if (!accepts(req, pathVariables)) {
+            return null;
+        }
+
+        // Converters without format check are still guarded by NO_MATCH
+        Object[] arguments = new Object[resolvers.length];
+        int nextFree = 0;
+        for (int i = 0; i < resolvers.length; i++) {
+            ParameterResolver fallback = positional[i];
+            Object value;
+            if (fallback == null) {
+                value = resolvers[i].resolve(req, resp, pathVariables);
+            } else {
+                String rawValue = fallback.parameterValue(req);
+                int variableIndex = rawValue == null && nextFree < freeVariables.length ? freeVariables[nextFree++] : -1;
+                value = fallback.resolve(rawValue, pathVariables, variableIndex);
+            }
+            if (value == ArgumentResolver.NO_MATCH) {
+                return null;
+            }
+            arguments[i] = value;
+        }
+        return arguments;
+    }
+
+    private static String[] candidateNames(String annotatedName, String paramName) {
+        if (annotatedName != null && paramName != null && !annotatedName.equals(paramName)) {
+            return new String[]{annotatedName, paramName};
+        }
+        if (annotatedName != null) {
+            return new String[]{annotatedName};
+        }
+        if (paramName != null) {
+            return new String[]{paramName};
+        }
+        return new String[0];
+    }
+
+    private static int claimByName(List<String> variableNames, boolean[] claimed, String[] candidateNames) {
+        for (String candidate : candidateNames) {
+            for (int i = 0; i < claimed.length; i++) {
+                if (!claimed[i] && variableNames.get(i).trim().equalsIgnoreCase(candidate.trim())) {
+                    claimed[i] = true;
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builds a record or POJO parameter from a JSON body (read incrementally from the request
+     * stream) or, for any other content type, from the request parameters.
+     * <p>
+     * Form fields are format-checked by {@link #accepts}; JSON values while the body is read,
+     * since the stream can only be read once: the body is parsed by the first resolver
+     * reaching it and kept as a request attribute. A resolver of another type, or any resolver
+     * after a conversion failure, does not match. A body that is not valid JSON throws
+     * {@link JsonSyntaxException}, to be answered with 400.
+     */
+    private static final class BodyResolver implements ArgumentResolver {
+        private final ObjectBinder binder;
+        private final String prefix;
+
+        BodyResolver(ObjectBinder binder, String prefix) {
+            this.binder = binder;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean accepts(HttpServletRequest req, PathMatch pathVariables) {
+            return Json.isJsonMediaType(req.getContentType()) || binder.canBindForm(req, prefix);
+        }
+
+        @Override
+        public Object resolve(HttpServletRequest req, HttpServletResponse resp, PathMatch pathVariables) {
+            try {
+                if (!Json.isJsonMediaType(req.getContentType())) {
+                    return binder.bindForm(req, prefix);
+                }
+
+                Object body = req.getAttribute(BODY_ATTRIBUTE);
+                if (body != null) {
+                    return binder.getType().isInstance(body) ? body : NO_MATCH;
+                }
+                return readBody(req);
+            } catch (JsonSyntaxException malformed) {
+                throw malformed;
+            } catch (IllegalArgumentException conversionFailure) {
+                // Converters without format check are still guarded by NO_MATCH
+                return NO_MATCH;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Object readBody(HttpServletRequest req) throws IOException {
+            // Marked unbound first: a converter failing without format check leaves it so
+            req.setAttribute(BODY_ATTRIBUTE, UNBOUND_BODY);
+            JsonReader reader = new JsonReader(req.getInputStream(), charsetOf(req));
+            Object body = reader.peek() == JsonReader.Token.END_DOCUMENT ? null : binder.bindJson(reader);
+            if (body == NO_MATCH) {
+                return NO_MATCH;
+            }
+            if (body == null) {
+                req.removeAttribute(BODY_ATTRIBUTE);
+            } else {
+                req.setAttribute(BODY_ATTRIBUTE, body);
+            }
+            return body;
+        }
+
+        private static Charset charsetOf(HttpServletRequest req) {
+            String encoding = req.getCharacterEncoding();
+            if (encoding == null) {
+                return StandardCharsets.UTF_8;
+            }
+            try {
+                return Charset.forName(encoding);
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+    }
+
+    /**
+     * Reads a path variable or request parameter and converts it to the parameter type.
+     * Request parameters are looked up first, the path variable serves as fallback.
+     */
+    private static final class ParameterResolver implements ArgumentResolver {
+        private final String[] parameterNames;
+        private final int variableIndex;
+        private final ValueConverter converter;
+        private final Object defaultValue;
+        private final Object emptyValue;
+
+        ParameterResolver(Class<?> targetType, ConverterRegistry converters, String[] parameterNames,
+                          int variableIndex) {
+            this.parameterNames = parameterNames;
+            this.variableIndex = variableIndex;
+            this.converter = converters.resolve(targetType);
+            this.defaultValue = ValueConverters.defaultValueFor(targetType);
+            this.emptyValue = ValueConverters.emptyValueFor(targetType);
+        }
+
+        @Override
+        public boolean accepts(HttpServletRequest req, PathMatch pathVariables) {
+            return accepts(parameterValue(req), pathVariables, variableIndex);
+        }
+
+        @Override
+        public Object resolve(HttpServletRequest req, HttpServletResponse resp, PathMatch pathVariables) {
+            return resolve(parameterValue(req), pathVariables, variableIndex);
+        }
+
+        /**
+         * Format check of {@code rawValue}, or of the path variable at {@code variableIndex}
+         * when the request parameter is absent.
+         */
+        boolean accepts(String rawValue, PathMatch pathVariables, int variableIndex) {
+            if (rawValue != null) {
+                return rawValue.isEmpty() || converter.canConvert(rawValue, 0, rawValue.length());
+            }
+            if (variableIndex >= 0 && variableIndex < pathVariables.size()) {
+                return converter.canConvert(pathVariables.getPath(),
+                        pathVariables.getStart(variableIndex), pathVariables.getEnd(variableIndex));
+            }
+            return true;
+        }
+
+        Object resolve(String rawValue, PathMatch pathVariables, int variableIndex) {
+            try {
+                if (rawValue == null && variableIndex >= 0 && variableIndex < pathVariables.size()) {
+                    // Segments are never empty: convert the region in place, without substring
+                    return converter.convert(pathVariables.getPath(),
+                            pathVariables.getStart(variableIndex), pathVariables.getEnd(variableIndex));
+                }
+            } catch (IllegalArgumentException conversionFailure) {
+                return NO_MATCH;
+            }
+
+            if (rawValue == null) {
+                return defaultValue;
+            }
+            if (rawValue.isEmpty()) {
+                return emptyValue;
+            }
+
+            try {
+                return converter.convert(rawValue);
+            } catch (IllegalArgumentException conversionFailure) {
+                return NO_MATCH;
+            }
+        }
+
+        String parameterValue(HttpServletRequest req) {
+            for (String name : parameterNames) {
+                String rawValue = req.getParameter(name);
+                if (rawValue != null) {
+                    return rawValue;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.framework.binding;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type-indexed registry of {@link ValueConverter}s.
+ * <p>
+ * Converters are looked up once per handler parameter when the binding plans are compiled,
+ * never per request. Applications register converters for their own value types before the
+ * {@code FrontServlet} initialises, typically from a {@code ServletContextListener}:
+ * <pre>
+ * ConverterRegistry.getDefault().register(Money.class, Money::parse);
+ * </pre>
+ */
+public final class ConverterRegistry {
+
+    private static final ConverterRegistry DEFAULT = new ConverterRegistry();
+
+    private final Map<Class<?>, ValueConverter> converters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectBinder> binders = new ConcurrentHashMap<>();
+
+    public ConverterRegistry() {
+        register(String.class, ValueConverters.STRING);
+        register(int.class, ValueConverters.INT);
+        register(Integer.class, ValueConverters.INT);
+        register(long.class, ValueConverters.LONG);
+        register(Long.class, ValueConverters.LONG);
+        register(double.class, ValueConverters.DOUBLE);
+        register(Double.class, ValueConverters.DOUBLE);
+        register(float.class, ValueConverters.FLOAT);
+        register(Float.class, ValueConverters.FLOAT);
+        register(boolean.class, ValueConverters.BOOLEAN);
+        register(Boolean.class, ValueConverters.BOOLEAN);
+        register(short.class, ValueConverters.SHORT);
+        register(Short.class, ValueConverters.SHORT);
+        register(byte.class, ValueConverters.BYTE);
+        register(Byte.class, ValueConverters.BYTE);
+        register(char.class, ValueConverters.CHAR);
+        register(Character.class, ValueConverters.CHAR);
+        register(BigDecimal.class, BigDecimal::new);
+        register(BigInteger.class, BigInteger::new);
+        register(UUID.class, UUID::fromString);
+        register(LocalDate.class, LocalDate::parse);
+        register(LocalDateTime.class, LocalDateTime::parse);
+        register(LocalTime.class, LocalTime::parse);
+        register(OffsetDateTime.class, OffsetDateTime::parse);
+        register(Instant.class, Instant::parse);
+        register(Date.class, ValueConverters.DATE);
+    }
+
+    /**
+     * Registry used by the {@code FrontServlet}.
+     */
+    public static ConverterRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Register (or replace) the converter used for {@code type}.
+     */
+    public ConverterRegistry register(Class<?> type, ValueConverter converter) {
+        if (type == null || converter == null) {
+            throw new IllegalArgumentException("type and converter are required");
+        }
+        converters.put(type, converter);
+        return this;
+    }
+
+    /**
+     * Converter registered for {@code type}, or {@code null}. Enum converters are built on
+     * first use and cached.
+     */
+    public ValueConverter find(Class<?> type) {
+        ValueConverter converter = converters.get(type);
+        if (converter == null && type.isEnum()) {
+            converter = converters.computeIfAbsent(type, ValueConverters::forEnum);
+        }
+        return converter;
+    }
+
+    /**
+     * Converter for {@code type}; types without converter get one failing with
+     * {@link UnsupportedOperationException} when a value is supplied.
+     */
+    public ValueConverter resolve(Class<?> type) {
+        ValueConverter converter = find(type);
+        return converter != null ? converter : ValueConverters.unsupported(type);
+    }
+
+    public boolean supports(Class<?> type) {
+        return find(type) != null;
+    }
+
+    /**
+     * Binder plan of a record or POJO parameter, compiled on first use and shared by every
+     * handler (and nested property) of that type.
+     */
+    public ObjectBinder binderFor(Class<?> type) {
+        return binders.computeIfAbsent(type, bindable -> ObjectBinder.compile(bindable, this));
+    }
+}
@@ -0,0 +1,446 @@
+package com.framework.binding;
+
+import com.framework.json.JsonReader;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binder plan of a record or POJO handler parameter, compiled once per class.
+ * <p>
+ * Properties are the record components, or the public setters and public non-final fields
+ * of a class with a no-argument constructor. Each property is converted with the
+ * {@link ConverterRegistry}; properties whose type is itself bindable are bound recursively
+ * ({@code address.city} in a form, a nested object in JSON), and {@code List}/{@code Set}
+ * properties collect every value.
+ */
+public final class ObjectBinder {
+
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+    private final ConverterRegistry converters;
+    private final Property[] properties;
+    private final Map<String, Property> propertiesByName;
+    private final MethodHandle constructor;
+    private final boolean record;
+
+    private ObjectBinder(Class<?> type, ConverterRegistry converters) {
+        this.type = type;
+        this.converters = converters;
+        this.record = type.isRecord();
+
+        MethodHandles.Lookup lookup = lookupFor(type);
+        List<Property> collected = new ArrayList<>();
+        try {
+            if (record) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] componentTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    componentTypes[i] = components[i].getType();
+                    collected.add(new Property(components[i].getName(), components[i].getType(),
+                            components[i].getGenericType(), null, converters));
+                }
+                Constructor<?> canonical = type.getDeclaredConstructor(componentTypes);
+                this.constructor = lookup.unreflectConstructor(canonical)
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                this.constructor = lookup.unreflectConstructor(type.getDeclaredConstructor())
+                        .asType(MethodType.methodType(Object.class));
+                collectBeanProperties(type, lookup, collected);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Type non instanciable pour le binding : " + type.getName(), e);
+        }
+
+        this.properties = collected.toArray(new Property[0]);
+        this.propertiesByName = new HashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            properties[i].index = i;
+            propertiesByName.put(properties[i].name, properties[i]);
+        }
+    }
+
+    /**
+     * Whether instances of {@code type} can be bound property by property: records and
+     * concrete application classes with a no-argument constructor.
+     */
+    public static boolean isBindable(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers()) || isPlatformType(type)) {
+            return false;
+        }
+        if (type.isRecord()) {
+            return true;
+        }
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    static ObjectBinder compile(Class<?> type, ConverterRegistry converters) {
+        return new ObjectBinder(type, converters);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Bind the request parameters named after the properties, prefixed by {@code prefix}
+     * (empty at top level, {@code "address."} for a nested property).
+     */
+    public Object bindForm(HttpServletRequest req, String prefix) {
+        Object[] values = new Object[properties.length];
+        boolean[] assigned = new boolean[properties.length];
+
+        for (Property property : properties) {
+            String name = prefix + property.name;
+            if (property.collectionType != null) {
+                String[] rawValues = req.getParameterValues(name);
+                if (rawValues != null) {
+                    Collection<Object> collection = property.newCollection();
+                    for (String rawValue : rawValues) {
+                        collection.add(property.convertElement(rawValue));
+                    }
+                    values[property.index] = collection;
+                    assigned[property.index] = true;
+                }
+            } else if (property.converter != null) {
+                String rawValue = req.getParameter(name);
+                if (rawValue != null) {
+                    values[property.index] = rawValue.isEmpty() ? property.emptyValue : property.converter.convert(rawValue);
+                    assigned[property.index] = true;
+                }
+            } else if (property.isNested() && hasParameterWithPrefix(req, name + ".")) {
+                values[property.index] = property.nestedBinder().bindForm(req, name + ".");
+                assigned[property.index] = true;
+            }
+        }
+        return instantiate(values, assigned);
+    }
+
+    /**
+     * Whether every field {@link #bindForm} would read passes the format check of its
+     * converter, decided without throwing, so that overloads can be tried in turn.
+     */
+    public boolean canBindForm(HttpServletRequest req, String prefix) {
+        for (Property property : properties) {
+            String name = prefix + property.name;
+            if (property.collectionType != null) {
+                String[] rawValues = req.getParameterValues(name);
+                if (rawValues != null) {
+                    for (String rawValue : rawValues) {
+                        if (!property.canConvertElement(rawValue)) {
+                            return false;
+                        }
+                    }
+                }
+            } else if (property.converter != null) {
+                String rawValue = req.getParameter(name);
+                if (rawValue != null && !rawValue.isEmpty()
+                        && !property.converter.canConvert(rawValue, 0, rawValue.length())) {
+                    return false;
+                }
+            } else if (property.isNested() && hasParameterWithPrefix(req, name + ".")
+                    && !property.nestedBinder().canBindForm(req, name + ".")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bind the next JSON object of {@code reader}; unknown members are skipped. Values failing
+     * the format check of their converter make the whole object
+     * {@link ArgumentResolver#NO_MATCH}, once it has been read to its end.
+     */
+    public Object bindJson(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextScalar();
+            return null;
+        }
+
+        Object[] values = new Object[properties.length];
+        boolean[] assigned = new boolean[properties.length];
+        boolean unconvertible = false;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            Property property = propertiesByName.get(reader.nextName());
+            if (property == null) {
+                reader.skipValue();
+                continue;
+            }
+            Object value = readJsonValue(property, reader);
+            if (value == ArgumentResolver.NO_MATCH) {
+                unconvertible = true;
+                continue;
+            }
+            values[property.index] = value;
+            assigned[property.index] = true;
+        }
+        reader.endObject();
+        return unconvertible ? ArgumentResolver.NO_MATCH : instantiate(values, assigned);
+    }
+
+    private Object readJsonValue(Property property, JsonReader reader) throws IOException {
+        if (property.collectionType != null) {
+            if (reader.peek() == JsonReader.Token.NULL) {
+                reader.nextScalar();
+                return null;
+            }
+            Collection<Object> collection = property.newCollection();
+            boolean unconvertible = false;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Object element;
+                if (property.elementBinder() != null) {
+                    element = property.elementBinder().bindJson(reader);
+                } else {
+                    String rawValue = reader.nextScalar();
+                    element = property.canConvertElement(rawValue) ? property.convertElement(rawValue) : ArgumentResolver.NO_MATCH;
+                }
+                if (element == ArgumentResolver.NO_MATCH) {
+                    unconvertible = true;
+                } else {
+                    collection.add(element);
+                }
+            }
+            reader.endArray();
+            return unconvertible ? ArgumentResolver.NO_MATCH : collection;
+        }
+        if (property.converter != null) {
+            String rawValue = reader.nextScalar();
+            if (rawValue == null) {
+                return property.defaultValue;
+            }
+            if (rawValue.isEmpty()) {
+                return property.emptyValue;
+            }
+            return property.converter.canConvert(rawValue, 0, rawValue.length())
+                    ? property.converter.convert(rawValue) : ArgumentResolver.NO_MATCH;
+        }
+        if (property.isNested()) {
+            return property.nestedBinder().bindJson(reader);
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    private Object instantiate(Object[] values, boolean[] assigned) {
+        try {
+            if (record) {
+                for (int i = 0; i < values.length; i++) {
+                    if (!assigned[i] || values[i] == null) {
+                        values[i] = properties[i].defaultValue;
+                    }
+                }
+                return (Object) constructor.invokeExact(values);
+            }
+
+            Object instance = (Object) constructor.invokeExact();
+            for (int i = 0; i < values.length; i++) {
+                if (assigned[i] && (values[i] != null || !properties[i].type.isPrimitive())) {
+                    properties[i].setter.invokeExact(instance, values[i]);
+                }
+            }
+            return instance;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("Impossible de construire " + type.getName(), e);
+        }
+    }
+
+    private void collectBeanProperties(Class<?> beanType, MethodHandles.Lookup lookup, List<Property> collected) {
+        Map<String, Property> byName = new LinkedHashMap<>();
+        for (Field field : beanType.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                continue;
+            }
+            MethodHandle setter = unreflectSetter(lookup, field);
+            if (setter != null) {
+                byName.put(field.getName(), new Property(field.getName(), field.getType(),
+                        field.getGenericType(), setter, converters));
+            }
+        }
+        for (Method method : beanType.getMethods()) {
+            String name = method.getName();
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                    || !name.startsWith("set") || name.length() == 3) {
+                continue;
+            }
+            MethodHandle setter = unreflect(lookup, method);
+            if (setter != null) {
+                String property = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+                byName.put(property, new Property(property, method.getParameterTypes()[0],
+                        method.getGenericParameterTypes()[0], setter, converters));
+            }
+        }
+        collected.addAll(byName.values());
+    }
+
+    private static boolean hasParameterWithPrefix(HttpServletRequest req, String prefix) {
+        for (String name : req.getParameterMap().keySet()) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPlatformType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.")
+                || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method).asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectSetter(field).asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            return null;
+        }
+    }
+
+    /**
+     * One bindable property; nested binders are resolved on first use so that recursive
+     * types do not recurse at compile time.
+     */
+    private static final class Property {
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle setter;
+        private final ConverterRegistry converters;
+        private final ValueConverter converter;
+        private final Object defaultValue;
+        private final Object emptyValue;
+        private final Class<?> collectionType;
+        private final Class<?> elementType;
+        private final ValueConverter elementConverter;
+        private volatile ObjectBinder nested;
+        private int index;
+
+        Property(String name, Class<?> type, Type genericType, MethodHandle setter, ConverterRegistry converters) {
+            this.name = name;
+            this.type = type;
+            this.setter = setter;
+            this.converters = converters;
+            this.defaultValue = ValueConverters.defaultValueFor(type);
+            this.emptyValue = ValueConverters.emptyValueFor(type);
+
+            if (type == List.class || type == Collection.class || type == Set.class) {
+                this.collectionType = type;
+                this.elementType = elementTypeOf(genericType);
+                this.elementConverter = converters.find(elementType);
+                this.converter = null;
+            } else {
+                this.collectionType = null;
+                this.elementType = null;
+                this.elementConverter = null;
+                this.converter = converters.find(type);
+            }
+        }
+
+        boolean isNested() {
+            return converter == null && collectionType == null && isBindable(type);
+        }
+
+        ObjectBinder nestedBinder() {
+            ObjectBinder binder = nested;
+            if (binder == null) {
+                binder = converters.binderFor(type);
+                nested = binder;
+            }
+            return binder;
+        }
+
+        ObjectBinder elementBinder() {
+            if (elementConverter != null || !isBindable(elementType)) {
+                return null;
+            }
+            ObjectBinder binder = nested;
+            if (binder == null) {
+                binder = converters.binderFor(elementType);
+                nested = binder;
+            }
+            return binder;
+        }
+
+        Collection<Object> newCollection() {
+            return collectionType == Set.class ? new LinkedHashSet<>() : new ArrayList<>();
+        }
+
+        /**
+         * Format check of a collection element; {@code null} and elements without converter
+         * are left to {@link #convertElement}.
+         */
+        boolean canConvertElement(String rawValue) {
+            return rawValue == null || elementConverter == null
+                    || elementConverter.canConvert(rawValue, 0, rawValue.length());
+        }
+
+        Object convertElement(String rawValue) {
+            if (rawValue == null) {
+                return null;
+            }
+            if (elementConverter == null) {
+                throw new UnsupportedOperationException("Type non supporté : " + elementType.getName());
+            }
+            return elementConverter.convert(rawValue);
+        }
+
+        private static Class<?> elementTypeOf(Type genericType) {
+            if (genericType instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (argument instanceof Class) {
+                    return (Class<?>) argument;
+                }
+                if (argument instanceof ParameterizedType) {
+                    return (Class<?>) ((ParameterizedType) argument).getRawType();
+                }
+            }
+            return String.class;
+        }
+    }
+}
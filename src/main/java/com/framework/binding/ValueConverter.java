@@ -0,0 +1,28 @@
+package com.framework.binding;
+
+/**
+ * Converts a raw request value into the type expected by a handler parameter.
+ * Implementations signal malformed input with {@link IllegalArgumentException}.
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+    Object convert(String value);
+
+    /**
+     * Convert the region {@code [start, end)} of {@code source}. Converters able to parse a
+     * {@link CharSequence} in place override this to avoid materialising a substring.
+     */
+    default Object convert(CharSequence source, int start, int end) {
+        return convert(source.subSequence(start, end).toString());
+    }
+
+    /**
+     * Cheap check, without exception nor allocation, that the region can be converted. It is
+     * used to select among overloaded handlers; the default accepts everything, in which case
+     * a malformed value is only detected by {@link #convert} failing.
+     */
+    default boolean canConvert(CharSequence source, int start, int end) {
+        return true;
+    }
+}
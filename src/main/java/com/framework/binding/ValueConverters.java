@@ -0,0 +1,398 @@
+package com.framework.binding;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sprint 6: convertisseurs intégrés et valeurs par défaut des paramètres de handlers.
+ * Les convertisseurs numériques analysent directement une {@link CharSequence}.
+ */
+public final class ValueConverters {
+
+    public static final ValueConverter STRING = value -> value;
+
+    public static final ValueConverter INT = new ValueConverter() {
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return isInteger(source, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Object convert(String value) {
+            return Integer.parseInt(value);
+        }
+
+        @Override
+        public Object convert(CharSequence source, int start, int end) {
+            return Integer.parseInt(source, start, end, 10);
+        }
+    };
+
+    public static final ValueConverter LONG = new ValueConverter() {
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return isInteger(source, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        @Override
+        public Object convert(String value) {
+            return Long.parseLong(value);
+        }
+
+        @Override
+        public Object convert(CharSequence source, int start, int end) {
+            return Long.parseLong(source, start, end, 10);
+        }
+    };
+
+    public static final ValueConverter SHORT = new ValueConverter() {
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return isInteger(source, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+
+        @Override
+        public Object convert(String value) {
+            return Short.parseShort(value);
+        }
+
+        @Override
+        public Object convert(CharSequence source, int start, int end) {
+            int parsed = Integer.parseInt(source, start, end, 10);
+            if (parsed < Short.MIN_VALUE || parsed > Short.MAX_VALUE) {
+                throw new NumberFormatException("Valeur hors limites pour short : " + source.subSequence(start, end));
+            }
+            return (short) parsed;
+        }
+    };
+
+    public static final ValueConverter BYTE = new ValueConverter() {
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return isInteger(source, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+
+        @Override
+        public Object convert(String value) {
+            return Byte.parseByte(value);
+        }
+
+        @Override
+        public Object convert(CharSequence source, int start, int end) {
+            int parsed = Integer.parseInt(source, start, end, 10);
+            if (parsed < Byte.MIN_VALUE || parsed > Byte.MAX_VALUE) {
+                throw new NumberFormatException("Valeur hors limites pour byte : " + source.subSequence(start, end));
+            }
+            return (byte) parsed;
+        }
+    };
+
+    public static final ValueConverter BOOLEAN = new ValueConverter() {
+        @Override
+        public Object convert(String value) {
+            return Boolean.parseBoolean(value);
+        }
+
+        @Override
+        public Object convert(CharSequence source, int start, int end) {
+            return end - start == 4 && "true".regionMatches(true, 0, source.toString(), start, 4);
+        }
+    };
+
+    public static final ValueConverter DOUBLE = new ValueConverter() {
+        @Override
+        public Object convert(String value) {
+            return Double.valueOf(value);
+        }
+
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return isDecimal(source, start, end);
+        }
+    };
+
+    public static final ValueConverter FLOAT = new ValueConverter() {
+        @Override
+        public Object convert(String value) {
+            return Float.valueOf(value);
+        }
+
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return isDecimal(source, start, end);
+        }
+    };
+
+    public static final ValueConverter CHAR = new ValueConverter() {
+        @Override
+        public boolean canConvert(CharSequence source, int start, int end) {
+            return end - start == 1;
+        }
+
+        @Override
+        public Object convert(String value) {
+            if (value.length() != 1) {
+                throw new IllegalArgumentException("Impossible de convertir en char : " + value);
+            }
+            return value.charAt(0);
+        }
+
+        @Override
+        public Object convert(CharSequence source, int start, int end) {
+            if (end - start != 1) {
+                throw new IllegalArgumentException("Impossible de convertir en char : " + source.subSequence(start, end));
+            }
+            return source.charAt(start);
+        }
+    };
+
+    public static final ValueConverter DATE = value -> {
+        try {
+            return Date.from(Instant.parse(value));
+        } catch (DateTimeParseException ignored) {
+            LocalDate localDate = LocalDate.parse(value);
+            return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }
+    };
+
+    private ValueConverters() {
+        // Utility class
+    }
+
+    /**
+     * Converter backed by prebuilt name maps: exact name first, then case-insensitive.
+     */
+    public static ValueConverter forEnum(Class<?> enumType) {
+        if (!enumType.isEnum()) {
+            throw new IllegalArgumentException(enumType.getName() + " n'est pas une enum");
+        }
+
+        Map<String, Object> exact = new HashMap<>();
+        Map<String, Object> insensitive = new HashMap<>();
+        for (Object constant : enumType.getEnumConstants()) {
+            String name = ((Enum<?>) constant).name();
+            exact.put(name, constant);
+            insensitive.putIfAbsent(name.toLowerCase(Locale.ROOT), constant);
+        }
+        Map<String, Object> byName = Collections.unmodifiableMap(exact);
+        Map<String, Object> byLowerName = Collections.unmodifiableMap(insensitive);
+        String[] names = exact.keySet().toArray(new String[0]);
+
+        return new ValueConverter() {
+            @Override
+            public Object convert(String value) {
+                Object constant = byName.get(value);
+                if (constant == null) {
+                    constant = byLowerName.get(value.toLowerCase(Locale.ROOT));
+                }
+                if (constant == null) {
+                    throw new IllegalArgumentException("No enum constant " + enumType.getCanonicalName() + "." + value);
+                }
+                return constant;
+            }
+
+            @Override
+            public boolean canConvert(CharSequence source, int start, int end) {
+                for (String name : names) {
+                    if (regionEquals(name, source, start, end, true)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Whether the region is a base-10 integer within {@code [min, max]}, i.e. exactly what
+     * {@code Integer.parseInt} / {@code Long.parseLong} accept. ASCII input is checked without
+     * parsing exceptions; other digits (Arabic-Indic...) are left to the parser.
+     */
+    static boolean isInteger(CharSequence source, int start, int end, long min, long max) {
+        if (start >= end) {
+            return false;
+        }
+        boolean negative = false;
+        int position = start;
+        char first = source.charAt(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++position == end) {
+                return false;
+            }
+        }
+
+        // Accumulate negatively so that Long.MIN_VALUE stays representable
+        long limit = negative ? min : -max;
+        long value = 0;
+        for (; position < end; position++) {
+            char c = source.charAt(position);
+            if (c >= 0x80) {
+                return parsesAsLong(source, start, end, min, max);
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            if (value < (limit + digit) / 10) {
+                return false;
+            }
+            value = value * 10 - digit;
+            if (value < limit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean parsesAsLong(CharSequence source, int start, int end, long min, long max) {
+        try {
+            long value = Long.parseLong(source, start, end, 10);
+            return value >= min && value <= max;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether the region is a decimal number accepted by {@code Double.valueOf}: {@code -12},
+     * {@code 3.5}, {@code 1e-3}, {@code NaN}, {@code Infinity}... The common forms are checked
+     * without parsing exceptions; surrounding whitespace, {@code f}/{@code d} suffixes and
+     * hexadecimal notation are left to the parser.
+     */
+    static boolean isDecimal(CharSequence source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c <= ' ' || "fFdDxXpP".indexOf(c) >= 0) {
+                return parsesAsDouble(source, start, end);
+            }
+        }
+
+        int position = start;
+        if (position < end && (source.charAt(position) == '-' || source.charAt(position) == '+')) {
+            position++;
+        }
+        if (regionEquals("NaN", source, position, end, false) || regionEquals("Infinity", source, position, end, false)) {
+            return true;
+        }
+
+        int digits = 0;
+        while (position < end && isAsciiDigit(source.charAt(position))) {
+            position++;
+            digits++;
+        }
+        if (position < end && source.charAt(position) == '.') {
+            position++;
+            while (position < end && isAsciiDigit(source.charAt(position))) {
+                position++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (position < end && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+            position++;
+            if (position < end && (source.charAt(position) == '-' || source.charAt(position) == '+')) {
+                position++;
+            }
+            int exponentDigits = 0;
+            while (position < end && isAsciiDigit(source.charAt(position))) {
+                position++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return position == end;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean parsesAsDouble(CharSequence source, int start, int end) {
+        try {
+            Double.parseDouble(source.subSequence(start, end).toString());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean regionEquals(String expected, CharSequence source, int start, int end, boolean ignoreCase) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            char a = expected.charAt(i);
+            char b = source.charAt(start + i);
+            if (a != b && (!ignoreCase || Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converter for types that have no registered converter. It fails with
+     * {@link UnsupportedOperationException} once a value is actually supplied.
+     */
+    public static ValueConverter unsupported(Class<?> targetType) {
+        return value -> {
+            throw new UnsupportedOperationException("Type non supporté : " + targetType.getName());
+        };
+    }
+
+    /**
+     * Value used when the request does not provide the parameter at all.
+     */
+    public static Object defaultValueFor(Class<?> targetType) {
+        if (!targetType.isPrimitive()) {
+            return null;
+        }
+        if (targetType.equals(boolean.class)) {
+            return Boolean.FALSE;
+        }
+        if (targetType.equals(char.class)) {
+            return Character.valueOf('\0');
+        }
+        if (targetType.equals(byte.class)) {
+            return Byte.valueOf((byte) 0);
+        }
+        if (targetType.equals(short.class)) {
+            return Short.valueOf((short) 0);
+        }
+        if (targetType.equals(int.class)) {
+            return Integer.valueOf(0);
+        }
+        if (targetType.equals(long.class)) {
+            return Long.valueOf(0L);
+        }
+        if (targetType.equals(float.class)) {
+            return Float.valueOf(0F);
+        }
+        if (targetType.equals(double.class)) {
+            return Double.valueOf(0D);
+        }
+        return null;
+    }
+
+    /**
+     * Value used when the request provides the parameter with an empty value.
+     */
+    public static Object emptyValueFor(Class<?> targetType) {
+        if (targetType.equals(String.class)) {
+            return "";
+        }
+        return defaultValueFor(targetType);
+    }
+}
@@ -0,0 +1,259 @@
+package com.framework.cache;
+
+import com.framework.Scanners.PathMatch;
+import com.framework.annotation.Cacheable;
+import com.framework.util.ModelView;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of one {@link Cacheable} handler, keyed by path variables and selected request
+ * parameters.
+ * <p>
+ * Concurrent misses on the same key are loaded once: the first request invokes the handler
+ * and the others wait for its result. Entries expire after the TTL and the least recently
+ * used ones are evicted once {@code maxEntries} is exceeded.
+ */
+public final class ResponseCache {
+
+    private static final Object NOT_STORABLE = new Object();
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final boolean pathVariables;
+    private final String[] params;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResponseCache(long ttlMillis, int maxEntries, boolean pathVariables, String... params) {
+        this.ttlNanos = Math.max(0, ttlMillis) * 1_000_000L;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.pathVariables = pathVariables;
+        this.params = params == null ? new String[0] : params.clone();
+    }
+
+    /**
+     * Cache configured by the annotation, or {@code null} when the handler is not cacheable.
+     */
+    public static ResponseCache of(Cacheable cacheable) {
+        if (cacheable == null) {
+            return null;
+        }
+        return new ResponseCache(cacheable.ttl(), cacheable.maxEntries(), cacheable.pathVariables(), cacheable.params());
+    }
+
+    /**
+     * Whether a handler result can be stored and served again to other requests.
+     */
+    public static boolean isStorable(Object result) {
+        return result instanceof String || result instanceof ModelView || result instanceof byte[];
+    }
+
+    /**
+     * Build the key of the current request from its path variables and request parameters.
+     */
+    public Key keyFor(PathMatch pathMatch, HttpServletRequest req) {
+        int variables = pathVariables ? pathMatch.size() : 0;
+        String[] parts = new String[variables + params.length];
+        for (int i = 0; i < variables; i++) {
+            parts[i] = pathMatch.get(i);
+        }
+        for (int i = 0; i < params.length; i++) {
+            parts[variables + i] = req.getParameter(params[i]);
+        }
+        return new Key(parts);
+    }
+
+    /**
+     * Return the cached result for {@code key}, loading it with {@code loader} on a miss.
+     * Results that are not {@link #isStorable storable} are returned without being cached.
+     */
+    public Object get(Key key, Callable<?> loader) throws Exception {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            Entry created = new Entry();
+            entry = entries.compute(key, (k, current) -> current == null || current.isExpired(now) ? created : current);
+            if (entry == created) {
+                misses.increment();
+                return load(key, created, loader);
+            }
+        }
+
+        Object value = entry.await();
+        if (value == NOT_STORABLE) {
+            // The concurrent load produced a one-shot result (stream...): compute our own
+            misses.increment();
+            return loader.call();
+        }
+        hits.increment();
+        entry.lastAccess = clock.incrementAndGet();
+        return value;
+    }
+
+    private Object load(Key key, Entry entry, Callable<?> loader) throws Exception {
+        Object value;
+        try {
+            value = loader.call();
+        } catch (Exception | Error e) {
+            entries.remove(key, entry);
+            entry.expiresAt = System.nanoTime();
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+
+        if (!isStorable(value)) {
+            entries.remove(key, entry);
+            entry.expiresAt = System.nanoTime();
+            entry.future.complete(NOT_STORABLE);
+            return value;
+        }
+
+        entry.expiresAt = System.nanoTime() + ttlNanos;
+        entry.lastAccess = clock.incrementAndGet();
+        entry.future.complete(value);
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Drop expired entries, then the least recently used ones down to 90% of the capacity
+     * so that eviction is not repeated on every insertion.
+     */
+    private synchronized void evict() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        List<Map.Entry<Key, Entry>> candidates = new ArrayList<>(entries.size());
+        for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+            Entry entry = candidate.getValue();
+            if (!entry.future.isDone()) {
+                continue;
+            }
+            if (entry.isExpired(now)) {
+                remove(candidate);
+            } else {
+                candidates.add(candidate);
+            }
+        }
+
+        int target = Math.max(1, maxEntries - maxEntries / 10);
+        if (entries.size() <= target) {
+            return;
+        }
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        for (int i = 0; i < candidates.size() && entries.size() > target; i++) {
+            remove(candidates.get(i));
+        }
+    }
+
+    private void remove(Map.Entry<Key, Entry> candidate) {
+        if (entries.remove(candidate.getKey(), candidate.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Remove every cached result.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCache[size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions() + "]";
+    }
+
+    /**
+     * Values of the key components of one request.
+     */
+    public static final class Key {
+        private final String[] parts;
+        private final int hash;
+
+        Key(String[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.hashCode(parts);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && Arrays.equals(parts, ((Key) other).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(parts);
+        }
+    }
+
+    /**
+     * A cached result, or the load in progress for its key.
+     */
+    private static final class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+        private volatile long lastAccess;
+
+        boolean isExpired(long now) {
+            return future.isDone() && now - expiresAt >= 0;
+        }
+
+        Object await() throws Exception {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.framework.handler;
+
+import com.framework.Scanners.UrlDetails;
+import com.framework.annotation.HttpMethod;
+import com.framework.binding.ConverterRegistry;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runtime view of a {@link UrlDetails}: its handlers in declaration order, each one compiled
+ * into a {@link HandlerMethod}.
+ */
+public final class CompiledRoute {
+
+    private final UrlDetails details;
+    private final HandlerMethod[] handlers;
+
+    public CompiledRoute(UrlDetails details, ControllerProvider controllerProvider, ConverterRegistry converters) {
+        this.details = details;
+        List<Method> methods = details.getMethods();
+        this.handlers = new HandlerMethod[methods.size()];
+        for (int i = 0; i < handlers.length; i++) {
+            handlers[i] = new HandlerMethod(details, methods.get(i), controllerProvider, converters);
+        }
+    }
+
+    private CompiledRoute(UrlDetails details, HandlerMethod[] handlers) {
+        this.details = details;
+        this.handlers = handlers;
+    }
+
+    /**
+     * The same route restricted to the handlers serving {@code httpMethod}, in declaration
+     * order, or {@code null} when none does.
+     */
+    public CompiledRoute forMethod(HttpMethod httpMethod) {
+        List<HandlerMethod> selected = new ArrayList<>(handlers.length);
+        for (HandlerMethod handler : handlers) {
+            if (handler.supports(httpMethod)) {
+                selected.add(handler);
+            }
+        }
+        if (selected.isEmpty()) {
+            return null;
+        }
+        return selected.size() == handlers.length ? this : new CompiledRoute(details, selected.toArray(new HandlerMethod[0]));
+    }
+
+    public UrlDetails getDetails() {
+        return details;
+    }
+
+    public String getTemplate() {
+        return details.getNormalisedPath();
+    }
+
+    public HandlerMethod[] getHandlers() {
+        return handlers;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledRoute{" + details.getNormalisedPath() + ", handlers=" + handlers.length + "}";
+    }
+}
@@ -0,0 +1,228 @@
+package com.framework.handler;
+
+import com.framework.annotation.Controller;
+import com.framework.annotation.Scope;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Supplies controller instances according to the {@link Scope} declared on {@link Controller}.
+ * The no-arg constructor is resolved once, when the provider is created at init().
+ */
+public abstract class ControllerProvider {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, Class.class, UUID.class,
+            Pattern.class, Locale.class, Charset.class, URI.class);
+
+    private final Class<?> controllerClass;
+    private final MethodHandle constructor;
+    private final String constructorFailure;
+
+    ControllerProvider(Class<?> controllerClass) {
+        this.controllerClass = controllerClass;
+        MethodHandle resolved = null;
+        String failure = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(controllerClass, MethodHandles.lookup());
+            resolved = lookup.findConstructor(controllerClass, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            failure = "Aucun constructeur sans argument accessible pour " + controllerClass.getName() + " : " + e;
+        }
+        this.constructor = resolved;
+        this.constructorFailure = failure;
+    }
+
+    /**
+     * Build the provider matching the scope declared on the controller class.
+     */
+    public static ControllerProvider forClass(Class<?> controllerClass) {
+        Controller annotation = controllerClass.getAnnotation(Controller.class);
+        Scope scope = annotation == null ? Scope.AUTO : annotation.scope();
+        if (scope == Scope.AUTO) {
+            scope = isStateless(controllerClass) ? Scope.SINGLETON : Scope.PROTOTYPE;
+        }
+
+        switch (scope) {
+            case SINGLETON:
+                return new Singleton(controllerClass);
+            case POOLED:
+                return new Pooled(controllerClass, annotation == null ? 16 : annotation.poolSize());
+            default:
+                return new Prototype(controllerClass);
+        }
+    }
+
+    /**
+     * Obtain an instance to serve one request. Every call must be paired with {@link #release}.
+     */
+    public abstract Object acquire() throws Exception;
+
+    /**
+     * Hand back an instance obtained from {@link #acquire()}, once the handler is done with it
+     * (a returned CompletionStage included).
+     */
+    public void release(Object instance) {
+        // Nothing to do by default
+    }
+
+    public abstract Scope getScope();
+
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    protected Object newInstance() throws Exception {
+        if (constructor == null) {
+            throw new InstantiationException(constructorFailure);
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Exception | Error thrown) {
+            throw thrown;
+        } catch (Throwable thrown) {
+            throw new IllegalStateException("Instanciation impossible de " + controllerClass.getName(), thrown);
+        }
+    }
+
+    /**
+     * A controller is considered stateless when every instance field of its hierarchy is
+     * final and of an immutable type: a final {@code List} filled by a handler is still state.
+     */
+    static boolean isStateless(Class<?> controllerClass) {
+        for (Class<?> type = controllerClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (!Modifier.isFinal(modifiers) || !isImmutable(field.getType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Types whose instances cannot change once built. Anything else (collections, arrays,
+     * services...) may hold request data and keeps the controller per request.
+     */
+    private static boolean isImmutable(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)) {
+            return true;
+        }
+        // java.time values are all immutable, their interfaces (Clock aside) as well
+        Package typePackage = type.getPackage();
+        return typePackage != null && typePackage.getName().equals("java.time") && type != Clock.class;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + controllerClass.getName() + "}";
+    }
+
+    private static final class Singleton extends ControllerProvider {
+        private volatile Object instance;
+
+        Singleton(Class<?> controllerClass) {
+            super(controllerClass);
+        }
+
+        @Override
+        public Object acquire() throws Exception {
+            Object current = instance;
+            if (current == null) {
+                synchronized (this) {
+                    current = instance;
+                    if (current == null) {
+                        current = newInstance();
+                        instance = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        @Override
+        public Scope getScope() {
+            return Scope.SINGLETON;
+        }
+    }
+
+    private static final class Prototype extends ControllerProvider {
+        Prototype(Class<?> controllerClass) {
+            super(controllerClass);
+        }
+
+        @Override
+        public Object acquire() throws Exception {
+            return newInstance();
+        }
+
+        @Override
+        public Scope getScope() {
+            return Scope.PROTOTYPE;
+        }
+    }
+
+    /**
+     * Idle-instance cache: {@code acquire()} reuses an idle instance or builds a new one, and
+     * {@code release()} keeps at most {@code maxIdle} of them. Live instances are not bounded.
+     */
+    private static final class Pooled extends ControllerProvider {
+        private final Queue<Object> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+        private final int maxIdle;
+
+        Pooled(Class<?> controllerClass, int maxIdle) {
+            super(controllerClass);
+            this.maxIdle = Math.max(1, maxIdle);
+        }
+
+        @Override
+        public Object acquire() throws Exception {
+            Object pooled = idle.poll();
+            if (pooled != null) {
+                idleCount.decrementAndGet();
+                return pooled;
+            }
+            return newInstance();
+        }
+
+        @Override
+        public void release(Object instance) {
+            if (instance == null) {
+                return;
+            }
+            if (idleCount.incrementAndGet() <= maxIdle) {
+                idle.offer(instance);
+            } else {
+                idleCount.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Scope getScope() {
+            return Scope.POOLED;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.framework.handler;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+/**
+ * Bytecode template of the invokers generated by {@link HandlerInvoker}. Never loaded as is:
+ * each copy is defined as a hidden class whose class data is the handler's method handle.
+ */
+final class HandleInvokerTemplate implements HandlerInvoker {
+    private static final MethodHandle HANDLE;
+
+    static {
+        try {
+            HANDLE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Method method;
+
+    HandleInvokerTemplate(Method method) {
+        this.method = method;
+    }
+
+    @Override
+    public Object invoke(Object controller, Object[] arguments) throws Exception {
+        try {
+            return (Object) HANDLE.invokeExact(controller, arguments);
+        } catch (Exception | Error thrown) {
+            throw thrown;
+        } catch (Throwable thrown) {
+            throw new IllegalStateException("Erreur lors de l'invocation du handler : " + method, thrown);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HandleInvoker{" + method + "}";
+    }
+}
@@ -0,0 +1,127 @@
+package com.framework.handler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a handler method. Built once per route registration; exceptions thrown by the
+ * handler body are rethrown as is instead of being wrapped in {@link InvocationTargetException}.
+ */
+public interface HandlerInvoker {
+
+    Object invoke(Object controller, Object[] arguments) throws Exception;
+
+    /**
+     * Prefer a {@link MethodHandle} bound as a constant into a generated invoker, and fall back
+     * to reflection when the handler cannot be accessed through a lookup.
+     */
+    static HandlerInvoker of(Method method) {
+        try {
+            return ConstantHandleInvoker.generate(method);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError inaccessible) {
+            return new ReflectiveInvoker(method);
+        }
+    }
+
+    /**
+     * Spread {@link MethodHandle} adapted to {@code (Object, Object[])Object}.
+     */
+    private static MethodHandle genericHandle(Method method) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle direct = lookup.unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            direct = MethodHandles.dropArguments(direct, 0, Object.class);
+        }
+        return direct.asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+    /**
+     * Defines one hidden class per handler from the {@link HandleInvokerTemplate} bytecode. The
+     * handle is its class data, read into a {@code static final} field, so the JIT treats it as a
+     * constant and inlines the handler as it would a direct call.
+     */
+    final class ConstantHandleInvoker {
+        private static final String TEMPLATE = "HandleInvokerTemplate.class";
+
+        private static volatile byte[] templateBytes;
+
+        private ConstantHandleInvoker() {
+        }
+
+        public static HandlerInvoker generate(Method method) throws ReflectiveOperationException {
+            MethodHandle handle = genericHandle(method);
+            MethodHandles.Lookup generated = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(template(), handle, true);
+            try {
+                return (HandlerInvoker) generated
+                        .findConstructor(generated.lookupClass(), MethodType.methodType(void.class, Method.class))
+                        .invoke(method);
+            } catch (ReflectiveOperationException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Invoker indisponible pour le handler : " + method, e);
+            }
+        }
+
+        private static byte[] template() {
+            byte[] bytes = templateBytes;
+            if (bytes == null) {
+                try (InputStream in = HandlerInvoker.class.getResourceAsStream(TEMPLATE)) {
+                    if (in == null) {
+                        throw new IllegalStateException("Modèle d'invoker introuvable : " + TEMPLATE);
+                    }
+                    bytes = in.readAllBytes();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                templateBytes = bytes;
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Invoker relying on {@link Method#invoke}, used when no method handle can be obtained.
+     */
+    final class ReflectiveInvoker implements HandlerInvoker {
+        private final Method method;
+
+        public ReflectiveInvoker(Method method) {
+            this.method = method;
+            try {
+                method.setAccessible(true);
+            } catch (RuntimeException ignored) {
+                // Public handlers remain invocable without it
+            }
+        }
+
+        @Override
+        public Object invoke(Object controller, Object[] arguments) throws Exception {
+            try {
+                return method.invoke(controller, arguments);
+            } catch (InvocationTargetException wrapped) {
+                Throwable cause = wrapped.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw wrapped;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ReflectiveInvoker{" + method + "}";
+        }
+    }
+}
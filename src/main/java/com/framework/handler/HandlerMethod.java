@@ -0,0 +1,147 @@
+package com.framework.handler;
+
+import com.framework.Scanners.UrlDetails;
+import com.framework.admission.AdmissionControl;
+import com.framework.annotation.Batchable;
+import com.framework.annotation.Cacheable;
+import com.framework.annotation.Compress;
+import com.framework.annotation.HandlePath;
+import com.framework.annotation.HttpMethod;
+import com.framework.binding.BindingPlan;
+import com.framework.binding.ConverterRegistry;
+import com.framework.cache.ResponseCache;
+import com.framework.response.StringResultWriter;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A {@link com.framework.annotation.HandlePath} method with everything prepared at init()
+ * to serve it without reflection lookups at request time.
+ */
+public final class HandlerMethod {
+
+    private final Method method;
+    private final BindingPlan bindingPlan;
+    private final HandlerInvoker invoker;
+    private final ControllerProvider controllerProvider;
+    private final long asyncTimeout;
+    private final ResponseCache responseCache;
+    private final String produces;
+    private final Set<HttpMethod> httpMethods;
+    private final Compress compress;
+    private final StringResultWriter stringResultWriter;
+    private final AdmissionControl admission;
+    private final boolean batchable;
+
+    public HandlerMethod(UrlDetails route, Method method, ControllerProvider controllerProvider,
+                         ConverterRegistry converters) {
+        this.method = method;
+        this.controllerProvider = controllerProvider;
+        this.bindingPlan = BindingPlan.compile(route, method, converters);
+        this.invoker = HandlerInvoker.of(method);
+        HandlePath mapping = method.getAnnotation(HandlePath.class);
+        this.asyncTimeout = mapping == null ? -1 : mapping.timeout();
+        this.produces = mapping == null || mapping.produces().isBlank() ? null : mapping.produces().trim();
+        this.httpMethods = httpMethodsOf(mapping);
+        this.responseCache = ResponseCache.of(method.getAnnotation(Cacheable.class));
+        this.compress = method.getAnnotation(Compress.class);
+        this.stringResultWriter = new StringResultWriter(produces);
+        this.admission = AdmissionControl.forHandler(method);
+        this.batchable = method.isAnnotationPresent(Batchable.class)
+                || method.getDeclaringClass().isAnnotationPresent(Batchable.class);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public BindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
+    public HandlerInvoker getInvoker() {
+        return invoker;
+    }
+
+    public ControllerProvider getControllerProvider() {
+        return controllerProvider;
+    }
+
+    /**
+     * Timeout declared by {@link HandlePath#timeout()}, negative when not set.
+     */
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    /**
+     * Whether this handler serves the verb; {@code HEAD} is served by {@code GET} handlers.
+     */
+    public boolean supports(HttpMethod httpMethod) {
+        return httpMethods.contains(httpMethod);
+    }
+
+    /**
+     * Media type declared by {@link HandlePath#produces()}, {@code null} when not set.
+     */
+    public String getProduces() {
+        return produces;
+    }
+
+    /**
+     * Cache of the results declared by {@link Cacheable}, {@code null} when not cacheable.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Compression declared by {@link Compress}, {@code null} when the global setting applies.
+     */
+    public Compress getCompress() {
+        return compress;
+    }
+
+    /**
+     * Writer of the {@code String} results, keeping the encoded bytes of a constant result.
+     */
+    public StringResultWriter getStringResultWriter() {
+        return stringResultWriter;
+    }
+
+    /**
+     * Limits declared by {@link com.framework.annotation.Limit}, {@code null} when none.
+     */
+    public AdmissionControl getAdmission() {
+        return admission;
+    }
+
+    /**
+     * Whether the handler or its controller is {@link Batchable}: reachable from a batch.
+     */
+    public boolean isBatchable() {
+        return batchable;
+    }
+
+    private static Set<HttpMethod> httpMethodsOf(HandlePath mapping) {
+        if (mapping == null || mapping.method().length == 0) {
+            // OPTIONS is answered by the framework unless a handler declares it explicitly
+            return EnumSet.complementOf(EnumSet.of(HttpMethod.OPTIONS));
+        }
+        Set<HttpMethod> declared = EnumSet.noneOf(HttpMethod.class);
+        for (HttpMethod httpMethod : mapping.method()) {
+            declared.add(httpMethod);
+        }
+        if (declared.contains(HttpMethod.GET)) {
+            declared.add(HttpMethod.HEAD);
+        }
+        return declared;
+    }
+
+    @Override
+    public String toString() {
+        return method.toString();
+    }
+}
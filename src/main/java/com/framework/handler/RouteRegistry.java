@@ -0,0 +1,285 @@
+package com.framework.handler;
+
+import com.framework.Scanners.ScanHandlePath;
+import com.framework.Scanners.UrlDetails;
+import com.framework.annotation.HttpMethod;
+import com.framework.binding.ConverterRegistry;
+import com.framework.cache.ResponseCache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Routes served by the front controller, published as immutable {@link Snapshot}s.
+ * <p>
+ * Readers call {@link #snapshot()} once per request: a single volatile read, no lock, and
+ * a consistent view of every route table for the whole request. Writers describe their
+ * changes in a {@link Batch}; {@link Batch#commit()} copies the current routes, applies the
+ * changes, compiles the new tables and publishes them with one volatile write. Routes left
+ * untouched keep their compiled form (binding plans, response caches). Commits are
+ * serialised between writers only.
+ */
+public final class RouteRegistry {
+
+    private final ConverterRegistry converters;
+    private final Map<Class<?>, ControllerProvider> providers = new ConcurrentHashMap<>();
+    private final List<Consumer<Snapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final Object commitLock = new Object();
+    private volatile Snapshot snapshot;
+
+    public RouteRegistry(ConverterRegistry converters) {
+        this.converters = converters == null ? ConverterRegistry.getDefault() : converters;
+        this.snapshot = compile(Collections.emptyMap(), null, 0L);
+    }
+
+    /**
+     * Current routes. Never blocks; the returned snapshot never changes.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Start a set of changes, published together by {@link Batch#commit()}.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * Register the {@code @HandlePath} methods of {@code controllerClass}.
+     */
+    public Snapshot addController(Class<?> controllerClass) {
+        return batch().addController(controllerClass).commit();
+    }
+
+    /**
+     * Unregister every route of {@code controllerClass}.
+     */
+    public Snapshot removeController(Class<?> controllerClass) {
+        return batch().removeController(controllerClass.getName()).commit();
+    }
+
+    /**
+     * Be notified of every published snapshot, on the committing thread.
+     */
+    public void addListener(Consumer<Snapshot> listener) {
+        listeners.add(listener);
+    }
+
+    private Snapshot compile(Map<String, UrlDetails> routes, Snapshot previous, long version) {
+        Map<HttpMethod, RouteTable> tables = new EnumMap<>(HttpMethod.class);
+        for (HttpMethod httpMethod : HttpMethod.values()) {
+            tables.put(httpMethod, new RouteTable());
+        }
+        Map<String, CompiledRoute> compiled = new LinkedHashMap<>();
+        Map<String, ResponseCache> caches = new LinkedHashMap<>();
+        Set<Class<?>> controllers = new HashSet<>();
+        int maxVariables = 0;
+
+        for (Map.Entry<String, UrlDetails> entry : routes.entrySet()) {
+            UrlDetails details = entry.getValue();
+            CompiledRoute route = previous == null ? null : previous.compiledRoutes.get(entry.getKey());
+            if (route == null || route.getDetails() != details) {
+                // One instance provider per controller, according to its declared scope
+                ControllerProvider provider = providers.computeIfAbsent(
+                        details.getControllerClass(), ControllerProvider::forClass);
+                route = new CompiledRoute(details, provider, converters);
+            }
+            compiled.put(entry.getKey(), route);
+            controllers.add(details.getControllerClass());
+            maxVariables = Math.max(maxVariables, details.getParameterNames().size());
+
+            // One route table per HTTP verb, each route restricted to the handlers of that verb
+            for (HttpMethod httpMethod : HttpMethod.values()) {
+                CompiledRoute verbRoute = route.forMethod(httpMethod);
+                if (verbRoute != null) {
+                    tables.get(httpMethod).add(entry.getKey(), verbRoute);
+                }
+            }
+            for (HandlerMethod handler : route.getHandlers()) {
+                if (handler.getResponseCache() != null) {
+                    caches.put(handler.toString(), handler.getResponseCache());
+                }
+            }
+        }
+
+        for (RouteTable table : tables.values()) {
+            table.freeze();
+        }
+
+        // Controllers no longer routed (removed or reloaded classes) release their provider
+        providers.keySet().retainAll(controllers);
+        return new Snapshot(routes, compiled, tables, caches, maxVariables, version);
+    }
+
+    /**
+     * Immutable view of the routes at one point in time.
+     */
+    public static final class Snapshot {
+        private final Map<String, UrlDetails> routes;
+        private final Map<String, CompiledRoute> compiledRoutes;
+        private final Map<HttpMethod, RouteTable> tables;
+        private final Map<String, ResponseCache> responseCaches;
+        private final int maxPathVariables;
+        private final long version;
+
+        private Snapshot(Map<String, UrlDetails> routes, Map<String, CompiledRoute> compiledRoutes,
+                         Map<HttpMethod, RouteTable> tables, Map<String, ResponseCache> responseCaches,
+                         int maxPathVariables, long version) {
+            this.routes = Collections.unmodifiableMap(routes);
+            this.compiledRoutes = Collections.unmodifiableMap(compiledRoutes);
+            this.tables = Collections.unmodifiableMap(tables);
+            this.responseCaches = Collections.unmodifiableMap(responseCaches);
+            this.maxPathVariables = maxPathVariables;
+            this.version = version;
+        }
+
+        /**
+         * Routes by path, in registration order.
+         */
+        public Map<String, UrlDetails> getRoutes() {
+            return routes;
+        }
+
+        public Map<String, CompiledRoute> getCompiledRoutes() {
+            return compiledRoutes;
+        }
+
+        /**
+         * Routes serving {@code httpMethod}.
+         */
+        public RouteTable getTable(HttpMethod httpMethod) {
+            return tables.get(httpMethod);
+        }
+
+        public Map<HttpMethod, RouteTable> getTables() {
+            return tables;
+        }
+
+        /**
+         * Caches of the {@code @Cacheable} handlers, by handler.
+         */
+        public Map<String, ResponseCache> getResponseCaches() {
+            return responseCaches;
+        }
+
+        public int getMaxPathVariables() {
+            return maxPathVariables;
+        }
+
+        /**
+         * Number of commits before this snapshot.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public String toString() {
+            return "RouteRegistry.Snapshot{version=" + version + ", routes=" + routes.keySet() + "}";
+        }
+    }
+
+    /**
+     * Changes applied in order and published at once. A batch that fails (conflicting
+     * controllers on one path...) publishes nothing.
+     */
+    public final class Batch {
+        private final List<Consumer<Map<String, UrlDetails>>> changes = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        /**
+         * Add routes, merged with the handlers already registered on the same path.
+         */
+        public Batch addRoutes(Map<String, UrlDetails> routes) {
+            List<UrlDetails> added = new ArrayList<>(routes.values());
+            changes.add(working -> {
+                for (UrlDetails incoming : added) {
+                    String path = incoming.getNormalisedPath();
+                    // Published routes are never modified: merge into a copy
+                    UrlDetails merged = new UrlDetails(incoming.getControllerClass(), path);
+                    merged.addMethodsFrom(working.get(path));
+                    merged.addMethodsFrom(incoming);
+                    working.put(path, merged);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Add the {@code @HandlePath} methods of {@code controllerClass}.
+         */
+        public Batch addController(Class<?> controllerClass) {
+            return addRoutes(ScanHandlePath.mapHandlePaths(controllerClass));
+        }
+
+        /**
+         * Add one handler on {@code path}, whatever its annotations.
+         */
+        public Batch add(String path, Method handler) {
+            UrlDetails details = new UrlDetails(handler.getDeclaringClass(), path);
+            details.addMethod(handler);
+            return addRoutes(Collections.singletonMap(details.getNormalisedPath(), details));
+        }
+
+        /**
+         * Remove the route of {@code path} and all its handlers.
+         */
+        public Batch remove(String path) {
+            String trimmed = path == null ? "" : path.trim();
+            String normalised = trimmed.isEmpty() ? "/" : trimmed.startsWith("/") ? trimmed : "/" + trimmed;
+            changes.add(working -> working.remove(normalised));
+            return this;
+        }
+
+        /**
+         * Remove the routes of the controller named {@code controllerClassName}, whatever
+         * its class loader: a reloaded controller replaces its previous version.
+         */
+        public Batch removeController(String controllerClassName) {
+            changes.add(working -> {
+                Iterator<UrlDetails> routes = working.values().iterator();
+                while (routes.hasNext()) {
+                    if (routes.next().getControllerClass().getName().equals(controllerClassName)) {
+                        routes.remove();
+                    }
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Apply the changes to a copy of the current routes and publish the result.
+         */
+        public Snapshot commit() {
+            Snapshot published;
+            synchronized (commitLock) {
+                Snapshot current = snapshot;
+                Map<String, UrlDetails> working = new LinkedHashMap<>(current.routes);
+                for (Consumer<Map<String, UrlDetails>> change : changes) {
+                    change.accept(working);
+                }
+                published = compile(working, current, current.version + 1);
+                snapshot = published;
+                for (Consumer<Snapshot> listener : listeners) {
+                    listener.accept(published);
+                }
+            }
+            return published;
+        }
+    }
+}
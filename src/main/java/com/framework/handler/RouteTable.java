@@ -0,0 +1,71 @@
+package com.framework.handler;
+
+import com.framework.Scanners.PathMatch;
+import com.framework.Scanners.RouteTrie;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes of one HTTP verb: exact paths in a hash map, templates with {variable} segments in
+ * a {@link RouteTrie}. Every route of the table only holds the handlers of that verb.
+ */
+public final class RouteTable {
+
+    private final Map<String, CompiledRoute> exactRoutes = new HashMap<>();
+    private final RouteTrie<CompiledRoute> dynamicRoutes = new RouteTrie<>();
+    private boolean frozen;
+
+    /**
+     * Register a route under its request path (exact lookup) and, when it has variables,
+     * under its template. Refused once the table is frozen.
+     */
+    public void add(String path, CompiledRoute route) {
+        if (frozen) {
+            throw new IllegalStateException("RouteTable is read-only");
+        }
+        exactRoutes.put(path, route);
+        if (route.getDetails().isDynamic()) {
+            dynamicRoutes.insert(route.getTemplate(), route);
+        }
+    }
+
+    /**
+     * Make the table read-only. The tables of a published {@link RouteRegistry.Snapshot} are
+     * frozen: they are read without locking and only ever replaced, never modified.
+     */
+    public RouteTable freeze() {
+        frozen = true;
+        dynamicRoutes.freeze();
+        return this;
+    }
+
+    public CompiledRoute getExact(String path) {
+        return exactRoutes.get(path);
+    }
+
+    public RouteTrie<CompiledRoute> getDynamicRoutes() {
+        return dynamicRoutes;
+    }
+
+    public Map<String, CompiledRoute> getExactRoutes() {
+        return Collections.unmodifiableMap(exactRoutes);
+    }
+
+    /**
+     * Whether a route of this table matches {@code path}, regardless of the arguments.
+     */
+    public boolean matchesPath(String path) {
+        if (exactRoutes.containsKey(path)) {
+            return true;
+        }
+        PathMatch pathMatch = new PathMatch(dynamicRoutes.getMaxVariables());
+        pathMatch.reset(path);
+        return dynamicRoutes.match(path, pathMatch) != null;
+    }
+
+    public boolean isEmpty() {
+        return exactRoutes.isEmpty();
+    }
+}
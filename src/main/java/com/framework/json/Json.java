@@ -0,0 +1,273 @@
+package com.framework.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JSON serialization of handler results: records, POJOs (public getters and fields),
+ * {@code Map}s, collections, arrays and scalar values.
+ * <p>
+ * The way each class is written is resolved once and cached; objects are read through
+ * method handles and encoded as UTF-8 straight into the output stream.
+ */
+public final class Json {
+
+    public static final String MEDIA_TYPE = "application/json";
+    public static final String CONTENT_TYPE = MEDIA_TYPE + ";charset=UTF-8";
+
+    static final int MAX_DEPTH = 256;
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ClassValue<ValueWriter> WRITERS = new ClassValue<>() {
+        @Override
+        protected ValueWriter computeValue(Class<?> type) {
+            return writerFor(type);
+        }
+    };
+
+    private Json() {
+        // Utility class
+    }
+
+    /**
+     * Serialize {@code value} into {@code out}. The stream is flushed but not closed.
+     */
+    public static void write(Object value, OutputStream out) throws IOException {
+        JsonOutput output = new JsonOutput(out, BUFFER_SIZE);
+        writeValue(value, output, 0);
+        output.flush();
+    }
+
+    public static byte[] toBytes(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(value, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Whether a media type (for instance a {@code produces} declaration) designates JSON.
+     */
+    public static boolean isJsonMediaType(String mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        String type = mediaType.trim().toLowerCase(Locale.ROOT);
+        int parameters = type.indexOf(';');
+        if (parameters >= 0) {
+            type = type.substring(0, parameters).trim();
+        }
+        return type.equals(MEDIA_TYPE) || type.endsWith("+json");
+    }
+
+    /**
+     * Whether an {@code Accept} header allows a JSON response. A missing header accepts anything.
+     */
+    public static boolean isAccepted(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return true;
+        }
+        for (String range : acceptHeader.split(",")) {
+            String[] parts = range.split(";");
+            String type = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean matches = type.equals("*/*") || type.equals("application/*") || isJsonMediaType(type);
+            if (matches && !isRefused(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRefused(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException malformed) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static void writeValue(Object value, JsonOutput out, int depth) throws IOException {
+        if (value == null) {
+            out.writeAscii("null");
+            return;
+        }
+        if (depth > MAX_DEPTH) {
+            throw new IllegalStateException("Profondeur JSON maximale dépassée (référence circulaire ?) : "
+                    + value.getClass().getName());
+        }
+        WRITERS.get(value.getClass()).write(value, out, depth);
+    }
+
+    /**
+     * Writes the values of one class.
+     */
+    @FunctionalInterface
+    interface ValueWriter {
+        void write(Object value, JsonOutput out, int depth) throws IOException;
+    }
+
+    private static ValueWriter writerFor(Class<?> type) {
+        if (type == String.class) {
+            return (value, out, depth) -> out.writeString((String) value);
+        }
+        if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == AtomicInteger.class || type == AtomicLong.class) {
+            return (value, out, depth) -> out.writeLong(((Number) value).longValue());
+        }
+        if (type == Double.class) {
+            return (value, out, depth) -> out.writeDouble((Double) value);
+        }
+        if (type == Float.class) {
+            // Float.toString: 0.1f stays 0.1 instead of its widened double 0.10000000149011612
+            return (value, out, depth) -> out.writeFloat((Float) value);
+        }
+        if (type == BigDecimal.class || type == BigInteger.class) {
+            return (value, out, depth) -> out.writeAscii(value.toString());
+        }
+        if (type == Boolean.class) {
+            return (value, out, depth) -> out.writeAscii((Boolean) value ? "true" : "false");
+        }
+        if (type.isEnum() || type.getSuperclass() != null && type.getSuperclass().isEnum()) {
+            return (value, out, depth) -> out.writeString(((Enum<?>) value).name());
+        }
+        if (CharSequence.class.isAssignableFrom(type) || type == Character.class) {
+            return (value, out, depth) -> out.writeString(value.toString());
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return Json::writeMap;
+        }
+        if (Iterable.class.isAssignableFrom(type)) {
+            return (value, out, depth) -> writeIterator(((Iterable<?>) value).iterator(), out, depth);
+        }
+        if (type == Optional.class) {
+            return (value, out, depth) -> writeValue(((Optional<?>) value).orElse(null), out, depth);
+        }
+        if (type.isArray()) {
+            return arrayWriter(type.getComponentType());
+        }
+        if (Number.class.isAssignableFrom(type)) {
+            return (value, out, depth) -> out.writeDouble(((Number) value).doubleValue());
+        }
+        if (isPlatformType(type)) {
+            // Dates, UUID, URI... : their textual representation
+            return (value, out, depth) -> out.writeString(value.toString());
+        }
+        return ObjectPlan.of(type);
+    }
+
+    private static boolean isPlatformType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("jakarta.") || name.startsWith("sun.");
+    }
+
+    private static void writeMap(Object value, JsonOutput out, int depth) throws IOException {
+        out.writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            if (!first) {
+                out.writeByte(',');
+            }
+            first = false;
+            Object key = entry.getKey();
+            out.writeString(key instanceof Enum ? ((Enum<?>) key).name() : String.valueOf(key));
+            out.writeByte(':');
+            writeValue(entry.getValue(), out, depth + 1);
+        }
+        out.writeByte('}');
+    }
+
+    private static void writeIterator(Iterator<?> iterator, JsonOutput out, int depth) throws IOException {
+        out.writeByte('[');
+        boolean first = true;
+        while (iterator.hasNext()) {
+            if (!first) {
+                out.writeByte(',');
+            }
+            first = false;
+            writeValue(iterator.next(), out, depth + 1);
+        }
+        out.writeByte(']');
+    }
+
+    private static ValueWriter arrayWriter(Class<?> component) {
+        if (component == byte.class) {
+            return (value, out, depth) -> out.writeAscii(
+                    '"' + Base64.getEncoder().encodeToString((byte[]) value) + '"');
+        }
+        if (component == char.class) {
+            return (value, out, depth) -> out.writeString(new String((char[]) value));
+        }
+        if (component == int.class) {
+            return (value, out, depth) -> {
+                int[] values = (int[]) value;
+                out.writeByte('[');
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        out.writeByte(',');
+                    }
+                    out.writeLong(values[i]);
+                }
+                out.writeByte(']');
+            };
+        }
+        if (component == long.class) {
+            return (value, out, depth) -> {
+                long[] values = (long[]) value;
+                out.writeByte('[');
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        out.writeByte(',');
+                    }
+                    out.writeLong(values[i]);
+                }
+                out.writeByte(']');
+            };
+        }
+        if (!component.isPrimitive()) {
+            return (value, out, depth) -> {
+                Object[] values = (Object[]) value;
+                out.writeByte('[');
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        out.writeByte(',');
+                    }
+                    writeValue(values[i], out, depth + 1);
+                }
+                out.writeByte(']');
+            };
+        }
+        // Remaining primitive arrays (short, float, double, boolean) are boxed element by element
+        return (value, out, depth) -> {
+            int length = Array.getLength(value);
+            out.writeByte('[');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    out.writeByte(',');
+                }
+                writeValue(Array.get(value, i), out, depth + 1);
+            }
+            out.writeByte(']');
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.framework.json;
+
+import com.framework.util.Utf8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered UTF-8 encoder writing JSON tokens straight into an {@link OutputStream},
+ * without building intermediate {@code String}s.
+ */
+final class JsonOutput {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    JsonOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(64, bufferSize)];
+    }
+
+    void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Write a quoted JSON string, escaping quotes, backslashes and control characters.
+     */
+    void writeString(CharSequence value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeAsciiChar(c);
+            } else {
+                int codePoint = Character.codePointAt(value, i);
+                ensure(Utf8.length(codePoint));
+                position = Utf8.encode(codePoint, buffer, position);
+                i += Character.charCount(codePoint) - 1;
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeAsciiChar(char c) throws IOException {
+        switch (c) {
+            case '"':
+            case '\\':
+                ensure(2);
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+                return;
+            case '\n':
+                writeEscape('n');
+                return;
+            case '\r':
+                writeEscape('r');
+                return;
+            case '\t':
+                writeEscape('t');
+                return;
+            case '\b':
+                writeEscape('b');
+                return;
+            case '\f':
+                writeEscape('f');
+                return;
+            default:
+                if (c < 0x20) {
+                    ensure(6);
+                    buffer[position++] = '\\';
+                    buffer[position++] = 'u';
+                    buffer[position++] = '0';
+                    buffer[position++] = '0';
+                    buffer[position++] = HEX[c >> 4];
+                    buffer[position++] = HEX[c & 0xF];
+                } else {
+                    writeByte(c);
+                }
+        }
+    }
+
+    private void writeEscape(char c) throws IOException {
+        ensure(2);
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) c;
+    }
+
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position = end;
+    }
+
+    void writeDouble(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeAscii("null");
+        } else {
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    void writeFloat(float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeAscii("null");
+        } else {
+            writeAscii(Float.toString(value));
+        }
+    }
+
+    /**
+     * Write characters known to be ASCII (literals, number representations).
+     */
+    void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensure(Math.min(length, buffer.length));
+        for (int i = 0; i < length; i++) {
+            writeByte(value.charAt(i));
+        }
+    }
+
+    void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
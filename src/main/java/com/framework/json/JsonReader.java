@@ -0,0 +1,342 @@
+package com.framework.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull parser reading JSON tokens incrementally from a stream, without loading the whole
+ * document in memory. Malformed input is reported with {@link JsonSyntaxException}.
+ */
+public final class JsonReader {
+
+    /**
+     * Kind of the next value.
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int limit;
+
+    /**
+     * Whether a value (or an object member) was already read in the current container,
+     * one entry per nesting level: a separating comma is then expected.
+     */
+    private boolean[] hasValue = new boolean[32];
+    private boolean[] inObject = new boolean[32];
+    private int depth;
+    private boolean expectingValue;
+
+    public JsonReader(InputStream in, Charset charset) {
+        this(new InputStreamReader(in, charset == null ? StandardCharsets.UTF_8 : charset));
+    }
+
+    public JsonReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Kind of the next token, without consuming it.
+     */
+    public Token peek() throws IOException {
+        int c = skipSeparators();
+        switch (c) {
+            case -1:
+                return Token.END_DOCUMENT;
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '}':
+                return Token.END_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case ']':
+                return Token.END_ARRAY;
+            case '"':
+                return depth > 0 && inObject[depth - 1] && !expectingValue ? Token.NAME : Token.STRING;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case 'n':
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return Token.NUMBER;
+                }
+                throw syntaxError("caractère inattendu '" + (char) c + "'");
+        }
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        position++;
+        push(true);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        position++;
+        pop();
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        position++;
+        push(false);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        position++;
+        pop();
+    }
+
+    /**
+     * Whether the current object or array has another member.
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        position++;
+        String name = readString();
+        int c = skipWhitespace();
+        if (c != ':') {
+            throw syntaxError("':' attendu après \"" + name + "\"");
+        }
+        position++;
+        expectingValue = true;
+        return name;
+    }
+
+    /**
+     * Textual form of the next scalar: the content of a string, the digits of a number or
+     * {@code true}/{@code false}. Returns {@code null} for a JSON {@code null}.
+     */
+    public String nextScalar() throws IOException {
+        Token token = peek();
+        String value;
+        switch (token) {
+            case STRING:
+                position++;
+                value = readString();
+                break;
+            case NUMBER:
+                value = readLiteral();
+                break;
+            case BOOLEAN:
+                value = readLiteral();
+                if (!value.equals("true") && !value.equals("false")) {
+                    throw syntaxError("littéral invalide " + value);
+                }
+                break;
+            case NULL:
+                value = readLiteral();
+                if (!value.equals("null")) {
+                    throw syntaxError("littéral invalide " + value);
+                }
+                value = null;
+                break;
+            default:
+                throw syntaxError("valeur simple attendue, " + token + " trouvé");
+        }
+        valueRead();
+        return value;
+    }
+
+    /**
+     * Skip the next value, including nested objects and arrays.
+     */
+    public void skipValue() throws IOException {
+        Token token = peek();
+        if (token == Token.BEGIN_OBJECT) {
+            beginObject();
+            while (hasNext()) {
+                nextName();
+                skipValue();
+            }
+            endObject();
+        } else if (token == Token.BEGIN_ARRAY) {
+            beginArray();
+            while (hasNext()) {
+                skipValue();
+            }
+            endArray();
+        } else {
+            nextScalar();
+        }
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError(expected + " attendu, " + token + " trouvé");
+        }
+    }
+
+    /**
+     * Nesting is bounded like on the writing side ({@link Json#MAX_DEPTH}): binding and
+     * skipping recurse per level, so deep input must fail as invalid JSON, not overflow the stack.
+     */
+    private void push(boolean object) {
+        if (depth >= Json.MAX_DEPTH) {
+            throw syntaxError("profondeur maximale dépassée");
+        }
+        if (depth == hasValue.length) {
+            hasValue = Arrays.copyOf(hasValue, depth * 2);
+            inObject = Arrays.copyOf(inObject, depth * 2);
+        }
+        hasValue[depth] = false;
+        inObject[depth] = object;
+        depth++;
+        expectingValue = false;
+    }
+
+    private void pop() {
+        if (depth == 0) {
+            throw syntaxError("fermeture inattendue");
+        }
+        depth--;
+        valueRead();
+    }
+
+    private void valueRead() {
+        expectingValue = false;
+        if (depth > 0) {
+            hasValue[depth - 1] = true;
+        }
+    }
+
+    /**
+     * Skip whitespace and the comma separating two members, returning the next character.
+     */
+    private int skipSeparators() throws IOException {
+        int c = skipWhitespace();
+        if (c == ',' && depth > 0 && hasValue[depth - 1] && !expectingValue) {
+            position++;
+            hasValue[depth - 1] = false;
+            c = skipWhitespace();
+            if (c == '}' || c == ']') {
+                throw syntaxError("virgule superflue");
+            }
+        } else if (depth > 0 && hasValue[depth - 1] && !expectingValue && c != '}' && c != ']' && c != -1) {
+            throw syntaxError("',' attendue");
+        }
+        return c;
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[position];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+            position++;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        limit = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            throw syntaxError("fin de document inattendue");
+        }
+        return buffer[position++];
+    }
+
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return text.toString();
+            }
+            if (c == '\\') {
+                int escaped = read();
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        text.append((char) escaped);
+                        break;
+                    case 'b':
+                        text.append('\b');
+                        break;
+                    case 'f':
+                        text.append('\f');
+                        break;
+                    case 'n':
+                        text.append('\n');
+                        break;
+                    case 'r':
+                        text.append('\r');
+                        break;
+                    case 't':
+                        text.append('\t');
+                        break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) {
+                                throw syntaxError("séquence \\u invalide");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        text.append((char) code);
+                        break;
+                    default:
+                        throw syntaxError("échappement invalide \\" + (char) escaped);
+                }
+            } else if (c < 0x20) {
+                throw syntaxError("caractère de contrôle dans une chaîne");
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private String readLiteral() throws IOException {
+        text.setLength(0);
+        while (true) {
+            if (position == limit && !fill()) {
+                break;
+            }
+            char c = buffer[position];
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            text.append(c);
+            position++;
+        }
+        return text.toString();
+    }
+
+    private JsonSyntaxException syntaxError(String message) {
+        return new JsonSyntaxException("JSON invalide : " + message);
+    }
+}
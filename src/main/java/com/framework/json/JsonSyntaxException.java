@@ -0,0 +1,14 @@
+package com.framework.json;
+
+/**
+ * Input that is not well-formed JSON, as opposed to a well-formed value that cannot be
+ * converted to the expected type.
+ */
+public class JsonSyntaxException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonSyntaxException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,151 @@
+package com.framework.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Properties of a record or POJO, resolved once per class: record components in declaration
+ * order, or public getters and public fields sorted by name. Each property keeps its
+ * pre-encoded {@code "name":} prefix and a method handle reading it.
+ */
+final class ObjectPlan implements Json.ValueWriter {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> type;
+    private final byte[][] names;
+    private final MethodHandle[] getters;
+
+    private ObjectPlan(Class<?> type, List<String> names, List<MethodHandle> getters) {
+        this.type = type;
+        this.names = new byte[names.size()][];
+        this.getters = getters.toArray(new MethodHandle[0]);
+        for (int i = 0; i < this.names.length; i++) {
+            // First property without the separating comma, the others with it
+            String prefix = (i == 0 ? "\"" : ",\"") + escape(names.get(i)) + "\":";
+            this.names[i] = prefix.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    static ObjectPlan of(Class<?> type) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            lookup = MethodHandles.publicLookup();
+        }
+
+        List<String> names = new ArrayList<>();
+        List<MethodHandle> getters = new ArrayList<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                MethodHandle getter = unreflect(lookup, component.getAccessor());
+                if (getter != null) {
+                    names.add(component.getName());
+                    getters.add(getter);
+                }
+            }
+        } else {
+            Map<String, MethodHandle> properties = new TreeMap<>();
+            for (Field field : type.getFields()) {
+                MethodHandle getter = Modifier.isStatic(field.getModifiers()) ? null : unreflectGetter(lookup, field);
+                if (getter != null) {
+                    properties.put(field.getName(), getter);
+                }
+            }
+            for (Method method : type.getMethods()) {
+                String property = propertyName(method);
+                MethodHandle getter = property == null ? null : unreflect(lookup, method);
+                if (getter != null) {
+                    properties.put(property, getter);
+                }
+            }
+            properties.forEach((name, getter) -> {
+                names.add(name);
+                getters.add(getter);
+            });
+        }
+        return new ObjectPlan(type, names, getters);
+    }
+
+    @Override
+    public void write(Object value, JsonOutput out, int depth) throws IOException {
+        out.writeByte('{');
+        for (int i = 0; i < getters.length; i++) {
+            out.writeBytes(names[i]);
+            Json.writeValue(read(getters[i], value), out, depth + 1);
+        }
+        out.writeByte('}');
+    }
+
+    private Object read(MethodHandle getter, Object value) throws IOException {
+        try {
+            return (Object) getter.invokeExact(value);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Lecture impossible d'une propriété de " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Property of a public getter: {@code getName()}, or {@code isName()} for booleans.
+     */
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                || method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name; // URL -> URL, as java.beans.Introspector does
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Getter adapted to {@code (Object)Object}, or {@code null} when it cannot be accessed:
+     * the property is then left out.
+     */
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method).asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectGetter(field).asType(GETTER);
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            return null;
+        }
+    }
+
+    private static String escape(String name) {
+        return name.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,77 @@
+package com.framework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed bucket bounds and one {@link LongAdder} per bucket, so that
+ * concurrent recordings only contend on striped cells. Buckets are stored non-cumulative and
+ * summed when read.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Upper bounds of the buckets, in seconds (Prometheus client defaults, plus 1 ms).
+     */
+    private static final double[] BOUNDS_SECONDS = {
+            0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    private static final long[] BOUNDS_NANOS = new long[BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_SECONDS.length; i++) {
+            BOUNDS_NANOS[i] = (long) (BOUNDS_SECONDS[i] * 1_000_000_000L);
+        }
+    }
+
+    /** One counter per bound, the last one for values above every bound. */
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_NANOS.length + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Upper bounds of the finite buckets, in seconds.
+     */
+    public static double[] getBounds() {
+        return BOUNDS_SECONDS.clone();
+    }
+
+    /**
+     * Cumulative counts, one per bound of {@link #getBounds()} followed by the total count.
+     * Cells are read one by one: the snapshot is not atomic with concurrent recordings.
+     */
+    public long[] getCumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            total += buckets[i].sum();
+            counts[i] = total;
+        }
+        return counts;
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (LongAdder bucket : buckets) {
+            total += bucket.sum();
+        }
+        return total;
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+}
@@ -0,0 +1,147 @@
+package com.framework.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Response wrapper counting the body bytes written through {@link #getOutputStream()} or
+ * {@link #getWriter()}. Characters are counted by their UTF-8 length, the encoding used by
+ * the framework, without encoding them a second time.
+ */
+public final class MeteredResponse extends HttpServletResponseWrapper {
+
+    private long bytesWritten;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public MeteredResponse(HttpServletResponse response) {
+        super(response);
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new CountingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    private final class CountingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            bytesWritten += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private final class CountingWriter extends Writer {
+        private final Writer delegate;
+
+        CountingWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            delegate.write(c);
+            bytesWritten += utf8Length((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            delegate.write(chars, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytesWritten += utf8Length(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String text, int off, int len) throws IOException {
+            delegate.write(text, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytesWritten += utf8Length(text.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * UTF-8 length of a UTF-16 unit; each half of a surrogate pair counts for 2 of the 4 bytes.
+     */
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2;
+        }
+        return 3;
+    }
+}
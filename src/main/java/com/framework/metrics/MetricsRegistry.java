@@ -0,0 +1,124 @@
+package com.framework.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route request metrics, keyed by route template rather than by raw path so that the
+ * number of series stays bounded. Requests matching no route share a single series.
+ * <p>
+ * The registry is published in the {@code ServletContext} by the {@code FrontServlet} and
+ * can be written in the Prometheus text exposition format.
+ */
+public final class MetricsRegistry {
+
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String UNMATCHED_LABEL = "<unmatched>";
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final RouteMetrics unmatched = new RouteMetrics(null);
+
+    /**
+     * Metrics of {@code template}, created on first use; {@code null} gives the series of
+     * requests matching no route.
+     */
+    public RouteMetrics forRoute(String template) {
+        if (template == null) {
+            return unmatched;
+        }
+        RouteMetrics metrics = routes.get(template);
+        return metrics != null ? metrics : routes.computeIfAbsent(template, RouteMetrics::new);
+    }
+
+    /**
+     * Live view of the metrics by template.
+     */
+    public Map<String, RouteMetrics> getRoutes() {
+        return Collections.unmodifiableMap(routes);
+    }
+
+    public RouteMetrics getUnmatched() {
+        return unmatched;
+    }
+
+    /**
+     * Write every series in the Prometheus text format (version 0.0.4).
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        counter(out, "framework_requests_total", "Requests handled, by route template.", Counter.REQUESTS);
+        counter(out, "framework_errors_total", "Requests failed with an exception or a 5xx status.", Counter.ERRORS);
+        counter(out, "framework_not_found_total", "Requests answered with a 404 status.", Counter.NOT_FOUND);
+        counter(out, "framework_response_bytes_total", "Response body bytes written.", Counter.BYTES);
+        counter(out, "framework_rate_limited_total", "Requests refused over the rate limit (429).", Counter.RATE_LIMITED);
+        counter(out, "framework_overloaded_total", "Requests refused over the concurrency limit (503).", Counter.OVERLOADED);
+
+        String name = "framework_request_duration_seconds";
+        out.append("# HELP ").append(name).append(" Request processing time.\n");
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        double[] bounds = LatencyHistogram.getBounds();
+        for (RouteMetrics metrics : series()) {
+            String label = label(metrics);
+            long[] counts = metrics.getLatency().getCumulativeCounts();
+            for (int i = 0; i < counts.length; i++) {
+                String le = i < bounds.length ? Double.toString(bounds[i]) : "+Inf";
+                out.append(name).append("_bucket{route=\"").append(label).append("\",le=\"").append(le)
+                        .append("\"} ").append(Long.toString(counts[i])).append('\n');
+            }
+            out.append(name).append("_sum{route=\"").append(label).append("\"} ")
+                    .append(Double.toString(metrics.getLatency().getSumNanos() / 1e9)).append('\n');
+            out.append(name).append("_count{route=\"").append(label).append("\"} ")
+                    .append(Long.toString(counts[counts.length - 1])).append('\n');
+        }
+    }
+
+    private void counter(Appendable out, String name, String help, Counter counter) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        for (RouteMetrics metrics : series()) {
+            out.append(name).append("{route=\"").append(label(metrics)).append("\"} ")
+                    .append(Long.toString(counter.read(metrics))).append('\n');
+        }
+    }
+
+    private List<RouteMetrics> series() {
+        List<RouteMetrics> series = new ArrayList<>(routes.values());
+        series.sort(Comparator.comparing(RouteMetrics::getTemplate));
+        series.add(unmatched);
+        return series;
+    }
+
+    private static String label(RouteMetrics metrics) {
+        String template = metrics.getTemplate();
+        if (template == null) {
+            return UNMATCHED_LABEL;
+        }
+        return template.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private enum Counter {
+        REQUESTS, ERRORS, NOT_FOUND, BYTES, RATE_LIMITED, OVERLOADED;
+
+        long read(RouteMetrics metrics) {
+            switch (this) {
+                case REQUESTS:
+                    return metrics.getRequests();
+                case ERRORS:
+                    return metrics.getErrors();
+                case NOT_FOUND:
+                    return metrics.getNotFound();
+                case RATE_LIMITED:
+                    return metrics.getRateLimited();
+                case OVERLOADED:
+                    return metrics.getOverloaded();
+                default:
+                    return metrics.getBytesWritten();
+            }
+        }
+    }
+}
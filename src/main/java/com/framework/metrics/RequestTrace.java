@@ -0,0 +1,103 @@
+package com.framework.metrics;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Time spent by one request in each processing phase, accumulated from
+ * {@link System#nanoTime()} checkpoints. Instances are reused from one request to the next
+ * on the same thread (see {@link RequestTracer}), so recording never allocates.
+ */
+public final class RequestTrace {
+
+    /**
+     * Processing phases, in request order.
+     */
+    public enum Phase {
+        /** Route lookup, excluding argument conversion. */
+        ROUTING,
+        /** Argument conversion and binding of the candidate handlers. */
+        BINDING,
+        /** Controller instance acquisition (construction for request-scoped controllers). */
+        CONTROLLER,
+        /** Handler body, or response cache lookup. */
+        HANDLER,
+        /** Result writing or forward to the view. */
+        RENDER
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] nanos = new long[PHASES.length];
+    private long startNanos;
+    private String method;
+    private String path;
+    private String template;
+    private Object handler;
+
+    void begin(long startNanos, String method, String path) {
+        Arrays.fill(nanos, 0L);
+        this.startNanos = startNanos;
+        this.method = method;
+        this.path = path;
+        this.template = null;
+        this.handler = null;
+    }
+
+    /**
+     * Add the time elapsed since {@code sinceNanos} to {@code phase} and return the current
+     * time, to be used as the start of the next phase.
+     */
+    public long mark(Phase phase, long sinceNanos) {
+        long now = System.nanoTime();
+        nanos[phase.ordinal()] += now - sinceNanos;
+        return now;
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    public void setRoute(String template, Object handler) {
+        this.template = template;
+        this.handler = handler;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public Object getHandler() {
+        return handler;
+    }
+
+    /**
+     * One-line breakdown: {@code GET /users/42 [/users/{id} -> handler] 12.345 ms (routing=...)}.
+     */
+    public String format(long totalNanos) {
+        StringBuilder line = new StringBuilder(160)
+                .append(method).append(' ').append(path)
+                .append(" [").append(template == null ? "aucune route" : template);
+        if (handler != null) {
+            line.append(" -> ").append(handler);
+        }
+        line.append("] ").append(millis(totalNanos)).append(" ms (");
+        for (int i = 0; i < PHASES.length; i++) {
+            line.append(i == 0 ? "" : ", ").append(PHASES[i].name().toLowerCase(Locale.ROOT))
+                    .append('=').append(millis(nanos[i]));
+        }
+        return line.append(')').toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
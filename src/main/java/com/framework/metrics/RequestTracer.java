@@ -0,0 +1,57 @@
+package com.framework.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Decides which request traces are logged: every request slower than the threshold, plus a
+ * random fraction of the others. Traces are kept per thread and reused; a request continuing
+ * asynchronously takes its trace along with {@link #detach()}.
+ */
+public final class RequestTracer {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Consumer<String> log;
+    private final ThreadLocal<RequestTrace> traces = ThreadLocal.withInitial(RequestTrace::new);
+
+    /**
+     * @param thresholdNanos requests at least this slow are always logged; negative to disable
+     * @param sampleRate     fraction (0 to 1) of the other requests logged
+     * @param log            destination of the trace lines
+     */
+    public RequestTracer(long thresholdNanos, double sampleRate, Consumer<String> log) {
+        this.thresholdNanos = thresholdNanos;
+        this.sampleRate = sampleRate;
+        this.log = log;
+    }
+
+    /**
+     * Trace of the current thread, reset for a new request.
+     */
+    public RequestTrace begin(long startNanos, String method, String path) {
+        RequestTrace trace = traces.get();
+        trace.begin(startNanos, method, path);
+        return trace;
+    }
+
+    /**
+     * Hand the current thread's trace over to a request continuing asynchronously: the
+     * thread gets a fresh one for its next request.
+     */
+    public void detach() {
+        traces.set(new RequestTrace());
+    }
+
+    /**
+     * End the request and log its trace when slow or sampled.
+     */
+    public void finish(RequestTrace trace) {
+        long total = System.nanoTime() - trace.getStartNanos();
+        if (thresholdNanos >= 0 && total >= thresholdNanos) {
+            log.accept("Requête lente : " + trace.format(total));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.accept("Trace : " + trace.format(total));
+        }
+    }
+}
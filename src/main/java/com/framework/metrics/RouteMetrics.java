@@ -0,0 +1,93 @@
+package com.framework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of one route template. Recording only touches
+ * {@link LongAdder}s: no lock, no allocation.
+ */
+public final class RouteMetrics {
+
+    private final String template;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder overloaded = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    RouteMetrics(String template) {
+        this.template = template;
+    }
+
+    /**
+     * Record a finished request. A request fails when the handler threw or the status is 5xx.
+     */
+    public void record(int status, long nanos, long bytes, boolean failed) {
+        requests.increment();
+        if (failed || status >= 500) {
+            errors.increment();
+        } else if (status == 404) {
+            notFound.increment();
+        }
+        if (bytes > 0) {
+            bytesWritten.add(bytes);
+        }
+        latency.record(nanos);
+    }
+
+    /**
+     * Record a request refused by the admission limits, before any execution: over the rate
+     * ({@code 429}) or over the concurrency ({@code 503}).
+     */
+    public void recordRejection(boolean overRate) {
+        if (overRate) {
+            rateLimited.increment();
+        } else {
+            overloaded.increment();
+        }
+    }
+
+    /**
+     * Route template ({@code /users/{id}}), or {@code null} for requests matching no route.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getNotFound() {
+        return notFound.sum();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getOverloaded() {
+        return overloaded.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMetrics{" + template + ", requests=" + getRequests() + ", errors=" + getErrors()
+                + ", notFound=" + getNotFound() + ", bytes=" + getBytesWritten() + ", rateLimited=" + getRateLimited()
+                + ", overloaded=" + getOverloaded() + "}";
+    }
+}
@@ -0,0 +1,80 @@
+package com.framework.response;
+
+/**
+ * A single {@code bytes=start-end} range, inclusive on both ends.
+ */
+public final class ByteRange {
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Parse a Range header. Returns {@code null} when the whole content must be served
+     * (no header, malformed header or several ranges), and {@link #UNSATISFIABLE} when the
+     * range is valid but starts past the content.
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix < 0) {
+                    return null;
+                }
+                if (suffix == 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                if (dash == spec.length() - 1) {
+                    end = length - 1;
+                } else {
+                    long last = Long.parseLong(spec.substring(dash + 1));
+                    // A last position before the first one is not a valid range: ignore the header
+                    if (last < start) {
+                        return null;
+                    }
+                    end = Math.min(last, length - 1);
+                }
+            }
+
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException malformed) {
+            return null;
+        }
+    }
+}
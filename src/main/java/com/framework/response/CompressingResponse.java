@@ -0,0 +1,408 @@
+package com.framework.response;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Response wrapper compressing the body written through {@link #getOutputStream()} or
+ * {@link #getWriter()}.
+ * <p>
+ * The start of the body is held in a pooled buffer until it reaches the minimum size: a
+ * smaller body, or one whose content type is not compressible, is then sent as is with its
+ * exact {@code Content-Length}; a larger one is deflated into a pooled buffer as it is
+ * written. A flush before the decision compresses, the final size being unknown.
+ */
+public final class CompressingResponse extends HttpServletResponseWrapper {
+
+    private static final int DECIDING = 0;
+    private static final int PASS_THROUGH = 1;
+    private static final int COMPRESSING = 2;
+    private static final int FINISHED = 3;
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final ResponseCompression compression;
+    private final ResponseCompression.Encoding encoding;
+    private final int minSize;
+    private int state = DECIDING;
+    private long declaredLength = -1;
+
+    private byte[] pending;
+    private int pendingLength;
+    private Deflater deflater;
+    private byte[] deflated;
+    private CRC32 crc;
+    private ServletOutputStream target;
+
+    private BodyStream body;
+    private boolean usingWriter;
+    private boolean finishing;
+    private PrintWriter writer;
+
+    CompressingResponse(HttpServletResponse response, ResponseCompression compression,
+                        ResponseCompression.Encoding encoding, int minSize) {
+        super(response);
+        this.compression = compression;
+        this.encoding = encoding;
+        this.minSize = minSize;
+    }
+
+    /**
+     * Whether the body was (or is being) compressed.
+     */
+    public boolean isCompressing() {
+        return deflater != null;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (usingWriter) {
+            throw new IllegalStateException("getWriter() a déjà été appelé pour cette réponse");
+        }
+        return body();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (body != null) {
+                throw new IllegalStateException("getOutputStream() a déjà été appelé pour cette réponse");
+            }
+            String encodingName = getCharacterEncoding();
+            Charset charset = encodingName == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encodingName);
+            usingWriter = true;
+            writer = new PrintWriter(new OutputStreamWriter(body(), charset));
+        }
+        return writer;
+    }
+
+    private BodyStream body() {
+        if (body == null) {
+            body = new BodyStream();
+        }
+        return body;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (state == DECIDING) {
+            declaredLength = len;
+        } else if (state == PASS_THROUGH) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (!captureContentLength(name, value)) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (!captureContentLength(name, value)) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (!captureContentLength(name, Integer.toString(value))) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (!captureContentLength(name, Integer.toString(value))) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    private boolean captureContentLength(String name, String value) {
+        if (!"Content-Length".equalsIgnoreCase(name) || state == PASS_THROUGH) {
+            return false;
+        }
+        try {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (body != null) {
+            body.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        pendingLength = 0;
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        pendingLength = 0;
+        declaredLength = -1;
+        super.reset();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        discard();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        discard();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        discard();
+        super.sendRedirect(location);
+    }
+
+    private void discard() {
+        if (state == DECIDING) {
+            pendingLength = 0;
+            state = FINISHED;
+        }
+    }
+
+    /**
+     * Write what is left of the body (the buffered start, the end of the compressed stream).
+     * Nothing can be written afterwards.
+     */
+    public void finish() throws IOException {
+        if (writer != null) {
+            // The characters left in the writer complete the body: no decision on this flush
+            finishing = true;
+            writer.flush();
+        }
+        if (state == DECIDING) {
+            decide(true);
+        }
+        if (state == COMPRESSING) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                int length = deflater.deflate(deflated);
+                target.write(deflated, 0, length);
+            }
+            if (encoding == ResponseCompression.Encoding.GZIP) {
+                writeGzipTrailer();
+            }
+        }
+        state = FINISHED;
+        release();
+    }
+
+    /**
+     * Give the pooled deflater and buffers back; the response must not be written anymore.
+     */
+    public void release() {
+        if (pending != null) {
+            compression.releaseBuffer(pending);
+            pending = null;
+        }
+        if (deflated != null) {
+            compression.releaseBuffer(deflated);
+            deflated = null;
+        }
+        if (deflater != null) {
+            compression.releaseDeflater(encoding, deflater);
+            deflater = null;
+        }
+        state = FINISHED;
+    }
+
+    /**
+     * Choose between compressing and sending as is, now that the body reached the minimum
+     * size, was flushed or is complete, then write the buffered start.
+     */
+    private void decide(boolean complete) throws IOException {
+        boolean compressible = ResponseCompression.isCompressible(getContentType())
+                && getHeader("Content-Encoding") == null && getStatus() != SC_PARTIAL_CONTENT
+                && getStatus() != SC_NO_CONTENT && getStatus() != SC_NOT_MODIFIED;
+        if (compressible) {
+            addVary();
+        }
+        long size = complete ? pendingLength : declaredLength >= 0 ? declaredLength : Long.MAX_VALUE;
+
+        target = super.getOutputStream();
+        if (compressible && size >= minSize) {
+            state = COMPRESSING;
+            super.setHeader("Content-Encoding", encoding.getToken());
+            deflater = compression.borrowDeflater(encoding);
+            deflated = compression.borrowBuffer();
+            if (encoding == ResponseCompression.Encoding.GZIP) {
+                crc = new CRC32();
+                target.write(GZIP_HEADER);
+            }
+            if (pendingLength > 0) {
+                compress(pending, 0, pendingLength, Deflater.NO_FLUSH);
+            }
+        } else {
+            state = PASS_THROUGH;
+            if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            } else if (complete) {
+                super.setContentLengthLong(pendingLength);
+            }
+            if (pendingLength > 0) {
+                target.write(pending, 0, pendingLength);
+            }
+        }
+        pendingLength = 0;
+        if (pending != null) {
+            compression.releaseBuffer(pending);
+            pending = null;
+        }
+    }
+
+    private void addVary() {
+        Collection<String> vary = getHeaders("Vary");
+        for (String value : vary) {
+            if (value.toLowerCase(Locale.ROOT).contains("accept-encoding") || value.trim().equals("*")) {
+                return;
+            }
+        }
+        super.addHeader("Vary", "Accept-Encoding");
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        switch (state) {
+            case DECIDING:
+                if (pendingLength + len < minSize) {
+                    if (pending == null) {
+                        pending = compression.borrowBuffer();
+                    }
+                    System.arraycopy(b, off, pending, pendingLength, len);
+                    pendingLength += len;
+                    return;
+                }
+                decide(false);
+                write(b, off, len);
+                return;
+            case PASS_THROUGH:
+                target.write(b, off, len);
+                return;
+            case COMPRESSING:
+                compress(b, off, len, Deflater.NO_FLUSH);
+                return;
+            default:
+                throw new IOException("Réponse déjà terminée");
+        }
+    }
+
+    private void flushBody() throws IOException {
+        if (finishing) {
+            return;
+        }
+        if (state == DECIDING && pendingLength > 0) {
+            decide(false);
+        }
+        if (state == COMPRESSING) {
+            // Streamed chunks reach the client without waiting for the end of the body
+            compress(deflated, 0, 0, Deflater.SYNC_FLUSH);
+        }
+        if (target != null && state != FINISHED) {
+            target.flush();
+        }
+    }
+
+    private void compress(byte[] b, int off, int len, int flush) throws IOException {
+        if (len > 0) {
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+            deflater.setInput(b, off, len);
+        }
+        if (flush == Deflater.NO_FLUSH) {
+            while (!deflater.needsInput()) {
+                int length = deflater.deflate(deflated, 0, deflated.length, Deflater.NO_FLUSH);
+                target.write(deflated, 0, length);
+            }
+            return;
+        }
+        int length;
+        do {
+            length = deflater.deflate(deflated, 0, deflated.length, flush);
+            target.write(deflated, 0, length);
+        } while (length == deflated.length);
+    }
+
+    private void writeGzipTrailer() throws IOException {
+        long checksum = crc.getValue();
+        long size = deflater.getBytesRead();
+        byte[] trailer = new byte[8];
+        for (int i = 0; i < 4; i++) {
+            trailer[i] = (byte) (checksum >> (8 * i));
+            trailer[4 + i] = (byte) (size >> (8 * i));
+        }
+        target.write(trailer);
+    }
+
+    private final class BodyStream extends ServletOutputStream {
+        private final byte[] single = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            CompressingResponse.this.write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            CompressingResponse.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBody();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return target == null || target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new IllegalStateException("Écriture non bloquante non supportée par la compression");
+        }
+    }
+}
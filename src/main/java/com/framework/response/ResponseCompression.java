@@ -0,0 +1,184 @@
+package com.framework.response;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Compression of response bodies: negotiation of {@code gzip} or {@code deflate} from
+ * {@code Accept-Encoding}, and bounded pools of {@link Deflater}s and byte buffers shared by
+ * the {@link CompressingResponse}s, so that a compressed response allocates neither.
+ */
+public final class ResponseCompression {
+
+    public static final int DEFAULT_MIN_SIZE = 1024;
+    private static final int MIN_BUFFER_SIZE = 8192;
+
+    /**
+     * Content types already compressed (or binary formats that do not shrink).
+     */
+    private static final Set<String> COMPRESSED_TYPES = Set.of(
+            "application/zip", "application/gzip", "application/x-gzip", "application/x-bzip2",
+            "application/x-7z-compressed", "application/x-rar-compressed", "application/zstd",
+            "application/octet-stream", "application/pdf", "font/woff", "font/woff2");
+
+    public enum Encoding {
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+
+    private final int minSize;
+    private final int bufferSize;
+    private final BlockingQueue<Deflater> gzipDeflaters;
+    private final BlockingQueue<Deflater> deflateDeflaters;
+    private final BlockingQueue<byte[]> buffers;
+
+    /**
+     * @param minSize  smallest body compressed, in bytes
+     * @param poolSize number of deflaters of each kind (and twice as many buffers) kept
+     */
+    public ResponseCompression(int minSize, int poolSize) {
+        this.minSize = Math.max(0, minSize);
+        // A buffer holds the start of a body until it reaches the minimum size
+        this.bufferSize = Math.max(MIN_BUFFER_SIZE, this.minSize);
+        this.gzipDeflaters = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.deflateDeflaters = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.buffers = new ArrayBlockingQueue<>(Math.max(2, 2 * poolSize));
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Preferred encoding accepted by the client, gzip over deflate at equal quality, or
+     * {@code null} when none is.
+     */
+    public static Encoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        float gzip = -1;
+        float deflate = -1;
+        float any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            int semicolon = coding.indexOf(';');
+            String name = (semicolon < 0 ? coding : coding.substring(0, semicolon)).trim();
+            float quality = semicolon < 0 ? 1 : quality(coding.substring(semicolon + 1));
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (name.equalsIgnoreCase("deflate")) {
+                deflate = Math.max(deflate, quality);
+            } else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        if (gzip < 0) {
+            gzip = any;
+        }
+        if (deflate < 0) {
+            deflate = any;
+        }
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? Encoding.GZIP : Encoding.DEFLATE;
+    }
+
+    private static float quality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=") || trimmed.startsWith("Q=")) {
+                try {
+                    return Float.parseFloat(trimmed.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Whether a body of this type is worth compressing: known, and neither an image, audio or
+     * video format (SVG aside) nor an archive.
+     */
+    public static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int semicolon = contentType.indexOf(';');
+        String mediaType = (semicolon < 0 ? contentType : contentType.substring(0, semicolon))
+                .trim().toLowerCase(Locale.ROOT);
+        if (mediaType.startsWith("image/")) {
+            return mediaType.equals("image/svg+xml");
+        }
+        return !mediaType.isEmpty() && !mediaType.startsWith("video/") && !mediaType.startsWith("audio/")
+                && !COMPRESSED_TYPES.contains(mediaType);
+    }
+
+    /**
+     * Wrap {@code response} to compress its body with {@code encoding} once it reaches
+     * {@code minSize} bytes (the global minimum when negative). The caller must call
+     * {@link CompressingResponse#finish()} after the body, then
+     * {@link CompressingResponse#release()}.
+     */
+    public CompressingResponse wrap(HttpServletResponse response, Encoding encoding, int minSize) {
+        int threshold = minSize < 0 ? this.minSize : Math.min(minSize, bufferSize);
+        return new CompressingResponse(response, this, encoding, threshold);
+    }
+
+    Deflater borrowDeflater(Encoding encoding) {
+        Deflater deflater = pool(encoding).poll();
+        // gzip writes its own header and trailer around raw deflate data
+        return deflater != null ? deflater : new Deflater(Deflater.DEFAULT_COMPRESSION, encoding == Encoding.GZIP);
+    }
+
+    void releaseDeflater(Encoding encoding, Deflater deflater) {
+        deflater.reset();
+        if (!pool(encoding).offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    byte[] borrowBuffer() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void releaseBuffer(byte[] buffer) {
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Free the native memory of the pooled deflaters.
+     */
+    public void close() {
+        Deflater deflater;
+        while ((deflater = gzipDeflaters.poll()) != null) {
+            deflater.end();
+        }
+        while ((deflater = deflateDeflaters.poll()) != null) {
+            deflater.end();
+        }
+        buffers.clear();
+    }
+
+    private BlockingQueue<Deflater> pool(Encoding encoding) {
+        return encoding == Encoding.GZIP ? gzipDeflaters : deflateDeflaters;
+    }
+}
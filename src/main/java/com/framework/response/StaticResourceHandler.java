@@ -0,0 +1,418 @@
+package com.framework.response;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves the files of the web application before any route lookup.
+ * <p>
+ * Resources are cached in a bounded map: small ones as heap byte arrays, large file-backed
+ * ones as memory-mapped buffers. Responses carry a weak {@code ETag} and
+ * {@code Last-Modified}, conditional requests get a 304, single byte ranges are honoured and
+ * a precompressed {@code .gz} sibling is preferred when the client accepts gzip.
+ */
+public final class StaticResourceHandler {
+
+    private static final long REVALIDATE_INTERVAL_MS = 2000L;
+    private static final int MAX_NEGATIVE_ENTRIES = 10_000;
+
+    private final ServletContext context;
+    private final long maxCacheBytes;
+    private final long maxHeapEntryBytes;
+    private final Map<String, Resource> cache = new ConcurrentHashMap<>();
+    private final Map<String, Long> missing = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+
+    public StaticResourceHandler(ServletContext context, long maxCacheBytes) {
+        this.context = context;
+        this.maxCacheBytes = Math.max(0, maxCacheBytes);
+        this.maxHeapEntryBytes = Math.max(4096, this.maxCacheBytes / 16);
+    }
+
+    /**
+     * Serve the request when its decoded path (servlet path and path info) designates a file
+     * of the web application.
+     *
+     * @return {@code false} when the path is not a static resource and must be routed
+     */
+    public boolean handle(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String method = req.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return false;
+        }
+
+        // The URI is still percent-encoded: resources are looked up, and guarded, decoded
+        String path = req.getServletPath();
+        String pathInfo = req.getPathInfo();
+        if (pathInfo != null) {
+            path = path == null ? pathInfo : path + pathInfo;
+        }
+        Resource resource = lookup(path);
+        if (resource == null) {
+            return false;
+        }
+
+        Resource variant = resource;
+        if (resource.gzip != null && acceptsGzip(req.getHeader("Accept-Encoding"))) {
+            variant = resource.gzip;
+            resp.setHeader("Content-Encoding", "gzip");
+        }
+        if (resource.gzip != null) {
+            resp.setHeader("Vary", "Accept-Encoding");
+        }
+
+        resp.setContentType(resource.contentType);
+        resp.setHeader("ETag", variant.etag);
+        resp.setDateHeader("Last-Modified", resource.lastModified);
+        resp.setHeader("Accept-Ranges", "bytes");
+
+        if (notModified(req, variant.etag, resource.lastModified)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+
+        ByteRange range = null;
+        if (rangeAllowed(req, resource.lastModified)) {
+            range = ByteRange.parse(req.getHeader("Range"), variant.length);
+        }
+        if (range == ByteRange.UNSATISFIABLE) {
+            resp.setHeader("Content-Range", "bytes */" + variant.length);
+            resp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return true;
+        }
+
+        long start = range == null ? 0 : range.getStart();
+        long count = range == null ? variant.length : range.length();
+        if (range != null) {
+            resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            resp.setHeader("Content-Range", "bytes " + range.getStart() + "-" + range.getEnd() + "/" + variant.length);
+        }
+        resp.setContentLengthLong(count);
+
+        if (!"HEAD".equals(method)) {
+            variant.writeTo(resp.getOutputStream(), start, count);
+        }
+        return true;
+    }
+
+    /**
+     * Number of bytes currently held on the heap or mapped by the cache.
+     */
+    public long getCachedBytes() {
+        return cachedBytes.get();
+    }
+
+    private Resource lookup(String path) throws IOException {
+        if (!isServable(path)) {
+            return null;
+        }
+        // A miss is revalidated like a cached file: the resource may have been created since
+        Long missedAt = missing.get(path);
+        if (missedAt != null) {
+            if (System.currentTimeMillis() - missedAt < REVALIDATE_INTERVAL_MS) {
+                return null;
+            }
+            missing.remove(path, missedAt);
+        }
+
+        Resource cached = cache.get(path);
+        if (cached != null && cached.isFresh()) {
+            return cached;
+        }
+
+        Resource loaded = load(path);
+        if (loaded == null) {
+            if (cached != null) {
+                evict(path, cached);
+            }
+            if (missing.size() >= MAX_NEGATIVE_ENTRIES) {
+                missing.clear();
+            }
+            missing.put(path, System.currentTimeMillis());
+            return null;
+        }
+
+        Resource previous = cache.put(path, loaded);
+        if (previous != null) {
+            cachedBytes.addAndGet(-previous.footprint());
+        }
+        if (cachedBytes.addAndGet(loaded.footprint()) > maxCacheBytes) {
+            trim(path);
+        }
+        return loaded;
+    }
+
+    private Resource load(String path) throws IOException {
+        URL url = context.getResource(path);
+        if (url == null || context.getResourcePaths(path) != null) {
+            return null;
+        }
+
+        String contentType = context.getMimeType(path);
+        Resource resource = read(path, url, contentType == null ? StreamingResults.OCTET_STREAM : contentType);
+        if (resource == null) {
+            return null;
+        }
+
+        if (resource.file != null) {
+            // Noted before reading the variant, so that a change during the read is seen later
+            resource.gzipSibling = new File(resource.file.getPath() + ".gz");
+            resource.gzipSiblingModified = resource.gzipSibling.lastModified();
+        }
+        URL gzipUrl = context.getResource(path + ".gz");
+        if (gzipUrl != null) {
+            Resource gzip = read(path + ".gz", gzipUrl, resource.contentType);
+            if (gzip != null && gzip.lastModified >= resource.lastModified) {
+                resource.gzip = gzip.withEtagSuffix("-gzip");
+            }
+        }
+        return resource;
+    }
+
+    private Resource read(String path, URL url, String contentType) throws IOException {
+        URLConnection connection = url.openConnection();
+        connection.setUseCaches(false);
+        long lastModified = connection.getLastModified();
+        long length = connection.getContentLengthLong();
+        File file = toFile(url);
+
+        if (file != null && length > Math.min(maxCacheBytes, Integer.MAX_VALUE)) {
+            // Larger than the whole cache: served from the file on every request
+            return new Resource(null, null, length, lastModified, contentType, file);
+        }
+        if (file != null && length > maxHeapEntryBytes) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return new Resource(null, mapped, channel.size(), lastModified, contentType, file);
+            }
+        }
+
+        try (InputStream in = context.getResourceAsStream(path)) {
+            if (in == null) {
+                return null;
+            }
+            byte[] bytes = in.readAllBytes();
+            return new Resource(bytes, null, bytes.length, lastModified, contentType, file);
+        }
+    }
+
+    private void trim(String keep) {
+        Iterator<Map.Entry<String, Resource>> entries = cache.entrySet().iterator();
+        while (cachedBytes.get() > maxCacheBytes && entries.hasNext()) {
+            Map.Entry<String, Resource> entry = entries.next();
+            if (!entry.getKey().equals(keep) && cache.remove(entry.getKey(), entry.getValue())) {
+                cachedBytes.addAndGet(-entry.getValue().footprint());
+            }
+        }
+    }
+
+    private void evict(String path, Resource resource) {
+        if (cache.remove(path, resource)) {
+            cachedBytes.addAndGet(-resource.footprint());
+        }
+    }
+
+    private static boolean isServable(String path) {
+        if (path == null || path.length() < 2 || path.charAt(0) != '/' || path.endsWith("/")) {
+            return false;
+        }
+        // Decoded segments the container may not have normalized: ".", "..", "//", "\\", NUL
+        if (path.contains("..") || path.contains("/./") || path.endsWith("/.") || path.contains("//")
+                || path.indexOf('\\') >= 0 || path.indexOf('\0') >= 0) {
+            return false;
+        }
+        String upper = path.toUpperCase(Locale.ROOT);
+        return !upper.startsWith("/WEB-INF") && !upper.startsWith("/META-INF")
+                && !upper.endsWith(".JSP") && !upper.endsWith(".JSPX");
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static boolean notModified(HttpServletRequest req, String etag, long lastModified) {
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            String opaque = stripWeak(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if ("*".equals(value) || stripWeak(value).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = req.getDateHeader("If-Modified-Since");
+        } catch (IllegalArgumentException malformed) {
+            return false;
+        }
+        return ifModifiedSince >= 0 && lastModified > 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * If-Range needs a strong validator (RFC 9110, 13.1.5). Our ETags are weak, so an entity
+     * tag never matches; a date matches when it equals Last-Modified and that date is strong,
+     * i.e. at least one second old (a file rewritten within the same second is not resumed).
+     */
+    private static boolean rangeAllowed(HttpServletRequest req, long lastModified) {
+        String ifRange = req.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return false;
+        }
+
+        long date;
+        try {
+            date = req.getDateHeader("If-Range");
+        } catch (IllegalArgumentException malformed) {
+            return false;
+        }
+        return date >= 0 && lastModified > 0 && lastModified / 1000 == date / 1000
+                && System.currentTimeMillis() - lastModified >= 1000;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static File toFile(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cached content of one resource (or of its gzip variant).
+     */
+    private static final class Resource {
+        private final byte[] bytes;
+        private final ByteBuffer mapped;
+        private final long length;
+        private final long lastModified;
+        private final String contentType;
+        private final File file;
+        private final String etag;
+        private volatile long checkedAt = System.currentTimeMillis();
+        private Resource gzip;
+        /** The {@code .gz} sibling on disk, present or not, and its modification time (0 when absent). */
+        private File gzipSibling;
+        private long gzipSiblingModified;
+
+        Resource(byte[] bytes, ByteBuffer mapped, long length, long lastModified, String contentType, File file) {
+            this(bytes, mapped, length, lastModified, contentType, file, "");
+        }
+
+        private Resource(byte[] bytes, ByteBuffer mapped, long length, long lastModified, String contentType,
+                         File file, String etagSuffix) {
+            this.bytes = bytes;
+            this.mapped = mapped;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.file = file;
+            this.etag = "W/\"" + length + "-" + lastModified + etagSuffix + "\"";
+        }
+
+        Resource withEtagSuffix(String suffix) {
+            return new Resource(bytes, mapped, length, lastModified, contentType, file, suffix);
+        }
+
+        long footprint() {
+            long own = bytes == null && mapped == null ? 0 : length;
+            return own + (gzip == null ? 0 : gzip.footprint());
+        }
+
+        /**
+         * File-backed resources are revalidated against the file system every few seconds,
+         * along with their {@code .gz} sibling: regenerated, added or removed since loading.
+         */
+        boolean isFresh() {
+            if (file == null) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (now - checkedAt < REVALIDATE_INTERVAL_MS) {
+                return true;
+            }
+            checkedAt = now;
+            if (file.lastModified() != lastModified || file.length() != length) {
+                return false;
+            }
+            if (gzipSibling == null) {
+                return true;
+            }
+            return gzipSibling.lastModified() == gzipSiblingModified
+                    && (gzip == null || gzipSibling.length() == gzip.length);
+        }
+
+        void writeTo(ServletOutputStream out, long start, long count) throws IOException {
+            if (bytes != null) {
+                out.write(bytes, (int) start, (int) count);
+                return;
+            }
+            if (mapped == null) {
+                // Too large to be mapped at once: transfer straight from the file
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                    WritableByteChannel target = Channels.newChannel(out);
+                    long position = start;
+                    long end = start + count;
+                    while (position < end) {
+                        long sent = channel.transferTo(position, end - position, target);
+                        if (sent <= 0) {
+                            break;
+                        }
+                        position += sent;
+                    }
+                }
+                return;
+            }
+            ByteBuffer slice = mapped.duplicate();
+            slice.position((int) start);
+            slice.limit((int) (start + count));
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (slice.hasRemaining()) {
+                channel.write(slice);
+            }
+        }
+    }
+}
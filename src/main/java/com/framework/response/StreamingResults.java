@@ -0,0 +1,184 @@
+package com.framework.response;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writers for the streaming handler return types: {@code byte[]}, {@link InputStream},
+ * {@link Path} and {@link Iterator}/{@link Stream} of chunks. Content is copied straight to
+ * the response output stream, never accumulated on the heap.
+ */
+public final class StreamingResults {
+
+    public static final String OCTET_STREAM = "application/octet-stream";
+    public static final String TEXT_PLAIN = "text/plain;charset=UTF-8";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int BUFFER_SIZE = 8192;
+
+    private StreamingResults() {
+        // Utility class
+    }
+
+    /**
+     * Whether the value is one of the return types handled by this class.
+     */
+    public static boolean isStreamable(Object result) {
+        return result instanceof byte[] || result instanceof InputStream || result instanceof Path
+                || result instanceof Iterator || result instanceof Stream;
+    }
+
+    public static void write(Object result, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (result instanceof byte[]) {
+            writeBytes((byte[]) result, resp);
+        } else if (result instanceof InputStream) {
+            writeStream((InputStream) result, resp);
+        } else if (result instanceof Path) {
+            writePath((Path) result, req, resp);
+        } else if (result instanceof Iterator) {
+            writeChunks((Iterator<?>) result, resp);
+        } else if (result instanceof Stream) {
+            try (Stream<?> chunks = (Stream<?>) result) {
+                writeChunks(chunks.iterator(), resp);
+            }
+        }
+    }
+
+    public static void writeBytes(byte[] bytes, HttpServletResponse resp) throws IOException {
+        defaultContentType(resp, OCTET_STREAM);
+        resp.setContentLength(bytes.length);
+        resp.getOutputStream().write(bytes);
+    }
+
+    /**
+     * Copy the stream to the response with a fixed buffer, then close it.
+     */
+    public static void writeStream(InputStream in, HttpServletResponse resp) throws IOException {
+        defaultContentType(resp, OCTET_STREAM);
+        try (InputStream source = in) {
+            ServletOutputStream out = resp.getOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Serve a file with {@code Content-Length} and single byte-range support. Tomcat's sendfile
+     * is used when the connector offers it, otherwise the file channel is transferred to the
+     * response.
+     */
+    public static void writePath(Path file, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        String mimeType = req.getServletContext() == null ? null
+                : req.getServletContext().getMimeType(file.getFileName().toString());
+        defaultContentType(resp, mimeType != null ? mimeType : OCTET_STREAM);
+        resp.setHeader("Accept-Ranges", "bytes");
+
+        ByteRange range = ByteRange.parse(req.getHeader("Range"), length);
+        if (range == ByteRange.UNSATISFIABLE) {
+            resp.setHeader("Content-Range", "bytes */" + length);
+            resp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long start = range == null ? 0 : range.getStart();
+        long count = range == null ? length : range.length();
+        if (range != null) {
+            resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            resp.setHeader("Content-Range", "bytes " + range.getStart() + "-" + range.getEnd() + "/" + length);
+        }
+        resp.setContentLengthLong(count);
+        if ("HEAD".equals(req.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT))) {
+            req.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            req.setAttribute(SENDFILE_START, start);
+            req.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(resp.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Write each chunk as soon as it is produced and flush it to the client.
+     * Text chunks are UTF-8 encoded, {@code byte[]} and {@link ByteBuffer} chunks go out as is.
+     */
+    public static void writeChunks(Iterator<?> chunks, HttpServletResponse resp) throws IOException {
+        ServletOutputStream out = null;
+        while (chunks.hasNext()) {
+            Object chunk = chunks.next();
+            if (chunk == null) {
+                continue;
+            }
+            if (out == null) {
+                defaultContentType(resp, chunk instanceof byte[] || chunk instanceof ByteBuffer ? OCTET_STREAM : TEXT_PLAIN);
+                out = resp.getOutputStream();
+            }
+
+            if (chunk instanceof byte[]) {
+                out.write((byte[]) chunk);
+            } else if (chunk instanceof ByteBuffer) {
+                ByteBuffer buffer = ((ByteBuffer) chunk).duplicate();
+                byte[] copy = new byte[Math.min(buffer.remaining(), BUFFER_SIZE)];
+                while (buffer.hasRemaining()) {
+                    int size = Math.min(copy.length, buffer.remaining());
+                    buffer.get(copy, 0, size);
+                    out.write(copy, 0, size);
+                }
+            } else {
+                out.write(chunk.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+        }
+
+        if (out == null) {
+            defaultContentType(resp, TEXT_PLAIN);
+        }
+    }
+
+    private static void defaultContentType(HttpServletResponse resp, String contentType) {
+        if (resp.getContentType() == null) {
+            resp.setContentType(contentType);
+        }
+    }
+}
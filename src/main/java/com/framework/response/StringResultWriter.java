@@ -0,0 +1,140 @@
+package com.framework.response;
+
+import com.framework.util.Utf8;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes the {@code String} results of one handler as UTF-8 bytes with an exact
+ * {@code Content-Length}, through the output stream rather than the container writer.
+ * <p>
+ * A result is encoded into a pooled buffer. When the handler returns the very same instance
+ * twice in a row (a literal, a cached value), its encoded bytes are kept and later responses
+ * only copy them; only results fitting a buffer are remembered, so that a large page is never
+ * retained. Content types declaring another charset go through the writer, and so does the
+ * result of a handler that already wrote to {@link HttpServletResponse#getWriter()}.
+ */
+public final class StringResultWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final BlockingQueue<byte[]> BUFFERS =
+            new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+
+    private final String contentType;
+    private final boolean utf8;
+    private volatile Object lastResult;
+    private volatile Encoded constant;
+
+    /**
+     * @param produces media type declared by the handler, {@code null} for plain text
+     */
+    public StringResultWriter(String produces) {
+        this.contentType = produces == null ? StreamingResults.TEXT_PLAIN : withCharset(produces);
+        this.utf8 = StandardCharsets.UTF_8.equals(charsetOf(contentType));
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void write(String result, HttpServletResponse resp) throws IOException {
+        resp.setContentType(contentType);
+        if (!utf8) {
+            resp.getWriter().print(result);
+            return;
+        }
+
+        // The writer may already be in use, since String results used to be printed to it
+        ServletOutputStream out;
+        try {
+            out = resp.getOutputStream();
+        } catch (IllegalStateException writerInUse) {
+            resp.getWriter().print(result);
+            return;
+        }
+
+        Encoded encoded = constant;
+        if (encoded != null && encoded.text == result) {
+            writeBytes(encoded.bytes, encoded.bytes.length, resp, out);
+            return;
+        }
+        if (result.length() > BUFFER_SIZE) {
+            byte[] bytes = result.getBytes(StandardCharsets.UTF_8);
+            writeBytes(bytes, bytes.length, resp, out);
+            return;
+        }
+        if (lastResult == result) {
+            encoded = new Encoded(result, result.getBytes(StandardCharsets.UTF_8));
+            constant = encoded;
+            writeBytes(encoded.bytes, encoded.bytes.length, resp, out);
+            return;
+        }
+        lastResult = result;
+
+        byte[] buffer = borrowBuffer();
+        try {
+            int length = Utf8.encode(result, buffer);
+            if (length < 0) {
+                byte[] bytes = result.getBytes(StandardCharsets.UTF_8);
+                writeBytes(bytes, bytes.length, resp, out);
+            } else {
+                writeBytes(buffer, length, resp, out);
+            }
+        } finally {
+            BUFFERS.offer(buffer);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, int length, HttpServletResponse resp, ServletOutputStream out)
+            throws IOException {
+        resp.setContentLength(length);
+        out.write(bytes, 0, length);
+    }
+
+    private static byte[] borrowBuffer() {
+        byte[] buffer = BUFFERS.poll();
+        return buffer != null ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * {@code contentType} with {@code charset=UTF-8} appended when it declares no charset.
+     */
+    public static String withCharset(String contentType) {
+        return contentType.toLowerCase(Locale.ROOT).contains("charset=") ? contentType : contentType + ";charset=UTF-8";
+    }
+
+    private static Charset charsetOf(String contentType) {
+        int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        String name = contentType.substring(index + "charset=".length());
+        int end = name.indexOf(';');
+        name = (end < 0 ? name : name.substring(0, end)).trim().replace("\"", "");
+        try {
+            return Charset.forName(name);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return null;
+        }
+    }
+
+    private static final class Encoded {
+        private final String text;
+        private final byte[] bytes;
+
+        Encoded(String text, byte[] bytes) {
+            this.text = text;
+            this.bytes = bytes;
+        }
+    }
+}
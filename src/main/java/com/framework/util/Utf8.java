@@ -0,0 +1,71 @@
+package com.framework.util;
+
+/**
+ * Hand-written UTF-8 encoding shared by the output paths that write into their own byte
+ * buffers (JSON, templates, {@code String} results). A lone surrogate is replaced by
+ * {@code '?'}, as {@link String#getBytes} does.
+ */
+public final class Utf8 {
+
+    private Utf8() {
+    }
+
+    /**
+     * Number of bytes of {@code codePoint} once encoded.
+     */
+    public static int length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            return 1;
+        }
+        return codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT ? 3 : 4;
+    }
+
+    /**
+     * Encode {@code codePoint} at {@code position}, where {@link #length} bytes must be
+     * available; the position following the encoded bytes.
+     */
+    public static int encode(int codePoint, byte[] buffer, int position) {
+        if (codePoint < 0x80) {
+            buffer[position++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (codePoint >> 6));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            buffer[position++] = '?';
+        } else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            buffer[position++] = (byte) (0xE0 | (codePoint >> 12));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        return position;
+    }
+
+    /**
+     * Encode the whole of {@code text} into {@code buffer}; the encoded length, or -1 when it
+     * does not fit.
+     */
+    public static int encode(CharSequence text, byte[] buffer) {
+        int position = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            int codePoint = Character.codePointAt(text, i);
+            if (buffer.length - position < length(codePoint)) {
+                return -1;
+            }
+            position = encode(codePoint, buffer, position);
+            i += Character.charCount(codePoint) - 1;
+        }
+        return position;
+    }
+}
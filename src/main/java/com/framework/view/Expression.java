@@ -0,0 +1,72 @@
+package com.framework.view;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A dotted property path ({@code user.address.city}), optionally negated ({@code !user.admin}).
+ * Its root is bound at parse time either to a loop variable slot or to a model entry.
+ */
+final class Expression {
+
+    private final String source;
+    private final String root;
+    private final int slot;
+    private final String[] path;
+    private final boolean negated;
+
+    Expression(String source, String root, int slot, String[] path, boolean negated) {
+        this.source = source;
+        this.root = root;
+        this.slot = slot;
+        this.path = path;
+        this.negated = negated;
+    }
+
+    Object evaluate(Map<String, ?> model, Object[] locals) {
+        Object value = slot >= 0 ? locals[slot] : model.get(root);
+        for (String property : path) {
+            if (value == null) {
+                return null;
+            }
+            value = PropertyReader.read(value, property);
+        }
+        return negated ? !isTrue(value) : value;
+    }
+
+    /**
+     * {@code null}, {@code false}, empty texts, collections, maps and arrays are false;
+     * anything else is true.
+     */
+    boolean test(Map<String, ?> model, Object[] locals) {
+        return isTrue(evaluate(model, locals));
+    }
+
+    static boolean isTrue(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() > 0;
+        }
+        if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        }
+        if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value) > 0;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
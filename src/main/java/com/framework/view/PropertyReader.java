@@ -0,0 +1,134 @@
+package com.framework.view;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the properties named in template expressions: {@code Map} keys, the {@code key} and
+ * {@code value} of map entries, {@code size} of collections and arrays, and otherwise record
+ * components, public getters and public fields, resolved once per class.
+ */
+final class PropertyReader {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, MethodHandle>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return gettersOf(type);
+        }
+    };
+
+    private PropertyReader() {
+        // Utility class
+    }
+
+    static Object read(Object target, String name) {
+        if (target instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) target;
+            return "size".equals(name) && !map.containsKey(name) ? map.size() : map.get(name);
+        }
+        if (target instanceof Map.Entry) {
+            if ("key".equals(name)) {
+                return ((Map.Entry<?, ?>) target).getKey();
+            }
+            if ("value".equals(name)) {
+                return ((Map.Entry<?, ?>) target).getValue();
+            }
+        }
+        if ("size".equals(name)) {
+            if (target instanceof Collection) {
+                return ((Collection<?>) target).size();
+            }
+            if (target.getClass().isArray()) {
+                return Array.getLength(target);
+            }
+        }
+
+        MethodHandle getter = GETTERS.get(target.getClass()).get(name);
+        if (getter == null) {
+            throw new TemplateException("Propriété '" + name + "' inconnue sur " + target.getClass().getName());
+        }
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TemplateException("Lecture impossible de '" + name + "' sur " + target.getClass().getName(), e);
+        }
+    }
+
+    private static Map<String, MethodHandle> gettersOf(Class<?> type) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            lookup = MethodHandles.publicLookup();
+        }
+
+        Map<String, MethodHandle> getters = new HashMap<>();
+        for (Field field : type.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                putIfAccessible(getters, field.getName(), lookup, field);
+            }
+        }
+        for (Method method : type.getMethods()) {
+            String property = propertyName(method);
+            if (property != null) {
+                putIfAccessible(getters, property, lookup, method);
+            }
+        }
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                putIfAccessible(getters, component.getName(), lookup, component.getAccessor());
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * Property of a public getter: {@code getName()}, or {@code isName()} for booleans.
+     */
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                || method.getReturnType() == void.class || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static void putIfAccessible(Map<String, MethodHandle> getters, String name,
+                                        MethodHandles.Lookup lookup, Object member) {
+        try {
+            MethodHandle getter = member instanceof Field
+                    ? lookup.unreflectGetter((Field) member) : lookup.unreflect((Method) member);
+            getters.put(name, getter.asType(GETTER));
+        } catch (IllegalAccessException | RuntimeException inaccessible) {
+            // Left out: reading it fails as an unknown property
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.framework.view;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * A template parsed once into an immutable node tree, rendered any number of times,
+ * concurrently, from a model {@code Map}.
+ */
+public final class Template {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String path;
+    private final TemplateNode[] nodes;
+    private final int localCount;
+
+    Template(String path, TemplateNode[] nodes, int localCount) {
+        this.path = path;
+        this.nodes = nodes;
+        this.localCount = localCount;
+    }
+
+    /**
+     * Parse {@code source}; {@code path} only serves in error messages.
+     */
+    public static Template compile(String path, String source) {
+        return TemplateParser.parse(path, source);
+    }
+
+    /**
+     * Render the template as UTF-8 into {@code out}. The stream is flushed but not closed.
+     */
+    public void render(Map<String, ?> model, OutputStream out) throws IOException {
+        TemplateOutput output = new TemplateOutput(out, BUFFER_SIZE);
+        try {
+            TemplateNode.renderAll(nodes, model, new Object[localCount], output);
+        } catch (TemplateException e) {
+            throw new TemplateException(path + " : " + e.getMessage(), e);
+        }
+        output.flush();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return "Template{" + path + ", nodes=" + nodes.length + "}";
+    }
+}
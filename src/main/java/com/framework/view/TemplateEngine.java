@@ -0,0 +1,86 @@
+package com.framework.view;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Views rendered without JSP: the {@code ModelView}s whose view path ends with one of the
+ * engine extensions. Each template is read and compiled on first use, then kept by view path.
+ */
+public final class TemplateEngine {
+
+    public static final String DEFAULT_EXTENSION = ".tpl";
+    public static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    /**
+     * Opens the source of a template, or returns {@code null} when it does not exist.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        InputStream open(String path) throws IOException;
+    }
+
+    private final Loader loader;
+    private final List<String> extensions = new ArrayList<>();
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    public TemplateEngine(Loader loader, Collection<String> extensions) {
+        this.loader = loader;
+        for (String extension : extensions) {
+            String normalised = extension.trim().toLowerCase(Locale.ROOT);
+            if (!normalised.isEmpty()) {
+                this.extensions.add(normalised.startsWith(".") ? normalised : "." + normalised);
+            }
+        }
+    }
+
+    /**
+     * Whether the view is rendered by this engine rather than forwarded to the container.
+     */
+    public boolean handles(String viewPath) {
+        String lower = viewPath.toLowerCase(Locale.ROOT);
+        for (String extension : extensions) {
+            if (lower.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The compiled template of {@code viewPath}, relative to the web application root.
+     */
+    public Template getTemplate(String viewPath) {
+        String path = viewPath.startsWith("/") ? viewPath : "/" + viewPath;
+        return templates.computeIfAbsent(path, this::load);
+    }
+
+    /**
+     * Forget the compiled templates, read again on next use.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private Template load(String path) {
+        try (InputStream in = loader.open(path)) {
+            if (in == null) {
+                throw new TemplateException("Vue introuvable : " + path);
+            }
+            return Template.compile(path, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new TemplateException("Lecture impossible de la vue " + path, e);
+        }
+    }
+
+    public List<String> getExtensions() {
+        return List.copyOf(extensions);
+    }
+}
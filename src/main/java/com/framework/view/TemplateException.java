@@ -0,0 +1,17 @@
+package com.framework.view;
+
+/**
+ * A template that cannot be read, parsed or rendered.
+ */
+public class TemplateException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TemplateException(String message) {
+        super(message);
+    }
+
+    public TemplateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,147 @@
+package com.framework.view;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+/**
+ * Element of a compiled template. The tree is immutable and shared by every rendering;
+ * per-rendering state (loop variables) lives in the {@code locals} array.
+ */
+interface TemplateNode {
+
+    void render(Map<String, ?> model, Object[] locals, TemplateOutput out) throws IOException;
+
+    static void renderAll(TemplateNode[] nodes, Map<String, ?> model, Object[] locals, TemplateOutput out)
+            throws IOException {
+        for (TemplateNode node : nodes) {
+            node.render(model, locals, out);
+        }
+    }
+
+    /**
+     * Static text, encoded once at parse time.
+     */
+    final class Text implements TemplateNode {
+        private final byte[] bytes;
+
+        Text(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Object[] locals, TemplateOutput out) throws IOException {
+            out.writeBytes(bytes);
+        }
+    }
+
+    /**
+     * {@code ${expression}} (HTML-escaped) or {@code $!{expression}} (written as is).
+     */
+    final class Value implements TemplateNode {
+        private final Expression expression;
+        private final boolean escape;
+
+        Value(Expression expression, boolean escape) {
+            this.expression = expression;
+            this.escape = escape;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Object[] locals, TemplateOutput out) throws IOException {
+            Object value = expression.evaluate(model, locals);
+            if (value != null) {
+                out.writeText(value instanceof CharSequence ? (CharSequence) value : String.valueOf(value), escape);
+            }
+        }
+    }
+
+    /**
+     * {@code #{if expression}} ... {@code #{else}} ... {@code #{end}}
+     */
+    final class If implements TemplateNode {
+        private final Expression condition;
+        private final TemplateNode[] then;
+        private final TemplateNode[] otherwise;
+
+        If(Expression condition, TemplateNode[] then, TemplateNode[] otherwise) {
+            this.condition = condition;
+            this.then = then;
+            this.otherwise = otherwise;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Object[] locals, TemplateOutput out) throws IOException {
+            renderAll(condition.test(model, locals) ? then : otherwise, model, locals, out);
+        }
+    }
+
+    /**
+     * {@code #{for item : expression}} ... {@code #{else}} ... {@code #{end}}: the body for each
+     * element of an {@code Iterable}, array, {@code Map} (its entries), {@code Iterator} or
+     * {@code Stream}; the {@code else} part when there is none.
+     */
+    final class For implements TemplateNode {
+        private final int slot;
+        private final Expression source;
+        private final TemplateNode[] body;
+        private final TemplateNode[] empty;
+
+        For(int slot, Expression source, TemplateNode[] body, TemplateNode[] empty) {
+            this.slot = slot;
+            this.source = source;
+            this.body = body;
+            this.empty = empty;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, Object[] locals, TemplateOutput out) throws IOException {
+            Object elements = source.evaluate(model, locals);
+            boolean any = false;
+            if (elements instanceof Object[]) {
+                for (Object element : (Object[]) elements) {
+                    any = renderBody(element, model, locals, out);
+                }
+            } else if (elements != null && elements.getClass().isArray()) {
+                int length = Array.getLength(elements);
+                for (int i = 0; i < length; i++) {
+                    any = renderBody(Array.get(elements, i), model, locals, out);
+                }
+            } else if (elements != null) {
+                Iterator<?> iterator = iterator(elements);
+                while (iterator.hasNext()) {
+                    any = renderBody(iterator.next(), model, locals, out);
+                }
+            }
+            locals[slot] = null;
+            if (!any) {
+                renderAll(empty, model, locals, out);
+            }
+        }
+
+        private boolean renderBody(Object element, Map<String, ?> model, Object[] locals, TemplateOutput out)
+                throws IOException {
+            locals[slot] = element;
+            renderAll(body, model, locals, out);
+            return true;
+        }
+
+        private Iterator<?> iterator(Object elements) {
+            if (elements instanceof Iterable) {
+                return ((Iterable<?>) elements).iterator();
+            }
+            if (elements instanceof Map) {
+                return ((Map<?, ?>) elements).entrySet().iterator();
+            }
+            if (elements instanceof Iterator) {
+                return (Iterator<?>) elements;
+            }
+            if (elements instanceof BaseStream) {
+                return ((BaseStream<?, ?>) elements).iterator();
+            }
+            throw new TemplateException("'" + source + "' n'est pas itérable : " + elements.getClass().getName());
+        }
+    }
+}
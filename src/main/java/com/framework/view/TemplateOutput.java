@@ -0,0 +1,111 @@
+package com.framework.view;
+
+import com.framework.util.Utf8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffered UTF-8 encoder writing template output straight into an {@link OutputStream}:
+ * static fragments are copied as pre-encoded bytes, values are encoded (and HTML-escaped)
+ * without building intermediate {@code String}s.
+ */
+final class TemplateOutput {
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    TemplateOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(64, bufferSize)];
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Write {@code value}, replacing {@code & < > " '} by their entities when {@code escape}.
+     */
+    void writeText(CharSequence value, boolean escape) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (escape) {
+                    writeEscaped(c);
+                } else {
+                    writeByte(c);
+                }
+            } else {
+                int codePoint = Character.codePointAt(value, i);
+                ensure(Utf8.length(codePoint));
+                position = Utf8.encode(codePoint, buffer, position);
+                i += Character.charCount(codePoint) - 1;
+            }
+        }
+    }
+
+    private void writeEscaped(char c) throws IOException {
+        switch (c) {
+            case '&':
+                writeAscii("&amp;");
+                return;
+            case '<':
+                writeAscii("&lt;");
+                return;
+            case '>':
+                writeAscii("&gt;");
+                return;
+            case '"':
+                writeAscii("&quot;");
+                return;
+            case '\'':
+                writeAscii("&#39;");
+                return;
+            default:
+                writeByte(c);
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.framework.view;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a template source into a tree of {@link TemplateNode}s.
+ * <ul>
+ *     <li>{@code ${user.name}}: value, HTML-escaped; {@code $!{html}}: value written as is</li>
+ *     <li>{@code #{if user.admin}} ... {@code #{else}} ... {@code #{end}}, {@code #{if !items}}</li>
+ *     <li>{@code #{for item : items}} ... {@code #{else}} ... {@code #{end}}</li>
+ *     <li>{@code \${}, {@code \$!{} and {@code \#{} produce the tag literally</li>
+ * </ul>
+ */
+final class TemplateParser {
+
+    private final String path;
+    private final String source;
+    private final List<String> locals = new ArrayList<>();
+    private final List<Block> blocks = new ArrayList<>();
+    private final StringBuilder text = new StringBuilder();
+    private int maxLocals;
+
+    private TemplateParser(String path, String source) {
+        this.path = path;
+        this.source = source;
+    }
+
+    static Template parse(String path, String source) {
+        return new TemplateParser(path, source).parse();
+    }
+
+    private Template parse() {
+        blocks.add(new Block(Block.ROOT, 0, null, -1));
+        int position = 0;
+        int length = source.length();
+        while (position < length) {
+            char c = source.charAt(position);
+            if (c == '\\' && tagLength(position + 1) > 0) {
+                int tag = tagLength(position + 1);
+                text.append(source, position + 1, position + 1 + tag);
+                position += 1 + tag;
+                continue;
+            }
+
+            int tag = tagLength(position);
+            if (tag == 0) {
+                text.append(c);
+                position++;
+                continue;
+            }
+            int close = source.indexOf('}', position + tag);
+            if (close < 0) {
+                throw error(position, "balise non fermée");
+            }
+            flushText();
+            String content = source.substring(position + tag, close).trim();
+            if (c == '$') {
+                current().nodes().add(new TemplateNode.Value(expression(content, position), tag == 2));
+            } else {
+                directive(content, position);
+            }
+            position = close + 1;
+        }
+        flushText();
+
+        if (blocks.size() > 1) {
+            throw error(blocks.get(blocks.size() - 1).offset, "#{end} manquant");
+        }
+        return new Template(path, toArray(blocks.get(0).then), maxLocals);
+    }
+
+    /**
+     * Length of the tag opening at {@code position}: 2 for {@code ${} and {@code #{}, 3 for
+     * {@code $!{}, 0 when none.
+     */
+    private int tagLength(int position) {
+        if (source.startsWith("${", position) || source.startsWith("#{", position)) {
+            return 2;
+        }
+        return source.startsWith("$!{", position) ? 3 : 0;
+    }
+
+    private void directive(String content, int offset) {
+        if (content.equals("end")) {
+            if (blocks.size() == 1) {
+                throw error(offset, "#{end} sans bloc ouvert");
+            }
+            Block block = blocks.remove(blocks.size() - 1);
+            TemplateNode node;
+            if (block.kind == Block.FOR) {
+                locals.remove(locals.size() - 1);
+                node = new TemplateNode.For(block.slot, block.expression, toArray(block.then), toArray(block.otherwise));
+            } else {
+                node = new TemplateNode.If(block.expression, toArray(block.then), toArray(block.otherwise));
+            }
+            current().nodes().add(node);
+        } else if (content.equals("else")) {
+            Block block = current();
+            if (block.kind == Block.ROOT || block.inElse) {
+                throw error(offset, "#{else} inattendu");
+            }
+            if (block.kind == Block.FOR) {
+                // The loop variable is not defined in the "else" part
+                locals.set(block.slot, null);
+            }
+            block.inElse = true;
+        } else if (content.startsWith("if ")) {
+            blocks.add(new Block(Block.IF, offset, expression(content.substring(3).trim(), offset), -1));
+        } else if (content.startsWith("for ")) {
+            int colon = content.indexOf(':');
+            if (colon < 0) {
+                throw error(offset, "syntaxe attendue #{for element : expression}");
+            }
+            String variable = content.substring(4, colon).trim();
+            if (!isIdentifier(variable)) {
+                throw error(offset, "nom de variable invalide '" + variable + "'");
+            }
+            // The source is evaluated before the variable exists
+            Expression elements = expression(content.substring(colon + 1).trim(), offset);
+            int slot = locals.size();
+            locals.add(variable);
+            maxLocals = Math.max(maxLocals, locals.size());
+            blocks.add(new Block(Block.FOR, offset, elements, slot));
+        } else {
+            throw error(offset, "directive inconnue '" + content + "'");
+        }
+    }
+
+    private Expression expression(String content, int offset) {
+        boolean negated = content.startsWith("!");
+        String[] segments = (negated ? content.substring(1).trim() : content).split("\\.", -1);
+        for (String segment : segments) {
+            if (!isIdentifier(segment)) {
+                throw error(offset, "expression invalide '" + content + "'");
+            }
+        }
+
+        String[] path = new String[segments.length - 1];
+        System.arraycopy(segments, 1, path, 0, path.length);
+        int slot = locals.lastIndexOf(segments[0]);
+        return new Expression(content, segments[0], slot, path, negated);
+    }
+
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void flushText() {
+        if (text.length() > 0) {
+            current().nodes().add(new TemplateNode.Text(text.toString().getBytes(StandardCharsets.UTF_8)));
+            text.setLength(0);
+        }
+    }
+
+    private Block current() {
+        return blocks.get(blocks.size() - 1);
+    }
+
+    private static TemplateNode[] toArray(List<TemplateNode> nodes) {
+        return nodes.toArray(new TemplateNode[0]);
+    }
+
+    private TemplateException error(int offset, String message) {
+        int line = 1;
+        for (int i = 0; i < offset; i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return new TemplateException(path + ":" + line + " : " + message);
+    }
+
+    /**
+     * Block being parsed: the template itself, an {@code if} or a {@code for}.
+     */
+    private static final class Block {
+        static final int ROOT = 0;
+        static final int IF = 1;
+        static final int FOR = 2;
+
+        final int kind;
+        final int offset;
+        final Expression expression;
+        final int slot;
+        final List<TemplateNode> then = new ArrayList<>();
+        final List<TemplateNode> otherwise = new ArrayList<>();
+        boolean inElse;
+
+        Block(int kind, int offset, Expression expression, int slot) {
+            this.kind = kind;
+            this.offset = offset;
+            this.expression = expression;
+            this.slot = slot;
+        }
+
+        List<TemplateNode> nodes() {
+            return inElse ? otherwise : then;
+        }
+    }
+}